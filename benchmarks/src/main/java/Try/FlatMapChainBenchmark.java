@@ -0,0 +1,133 @@
+package Try;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Compares the former flatMap/recoverWith strategy (unwrap the inner Try with getOrElseThrow
+ * and wrap it again with Try.of) with the current one that passes the inner Try through as is.
+ *
+ * Every chain alternates a failing flatMap step with a recoverWith step that recovers from it.
+ * The exceptionsPerChain counter reports the number of exceptions created by a chain: every failed step
+ * whose exception is not the original one of the failing step. Run it with -prof gc to see the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlatMapChainBenchmark {
+    private static final int CHAIN_DEPTH = 8;
+
+    private static final Try<Integer> FAILED_STEP = Try.of(() -> Integer.parseInt("V23"));
+    private static final Throwable FAILED_STEP_CAUSE = ((Failure<Integer>) FAILED_STEP).cause();
+
+    private int seed;
+
+    /**
+     * Counts the chains and the exceptions they create during a measurement iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ExceptionCounters {
+        private long chains;
+        private long exceptions;
+        /**
+         * JMH sums the event counters of all the measurement iterations and threads
+         */
+        private int reports;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            reports = params.getMeasurement().getCount() * params.getThreads();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            chains = 0;
+            exceptions = 0;
+        }
+
+        public double exceptionsPerChain() {
+            return chains == 0 ? 0 : (double) exceptions / chains / reports;
+        }
+
+        <T> Try<T> count(Try<T> step) {
+            if (step instanceof Failure && ((Failure<T>) step).cause() != FAILED_STEP_CAUSE) {
+                exceptions++;
+            }
+            return step;
+        }
+    }
+
+    /**
+     * The former implementation of Success.flatMap
+     */
+    private static <T, U> Try<U> legacyFlatMap(Try<T> source, ThrowableFunction<? super T, Try<U>> function) {
+        if (!source.isSuccess()) {
+            return source.flatMap(function);
+        }
+        T value = source.getUnchecked();
+        return Try.of(() -> function.apply(value).getOrElseThrow(Exception::new));
+    }
+
+    /**
+     * The former implementation of Failure.recoverWith
+     */
+    private static <T> Try<T> legacyRecoverWith(Try<T> source, ThrowableFunction<? super Throwable, Try<T>> function) {
+        if (source.isSuccess()) {
+            return source;
+        }
+        Throwable e = captureFailure(source);
+        return Try.of(() -> function.apply(e).getOrElseThrow(Exception::new));
+    }
+
+    private static Throwable captureFailure(Try<?> source) {
+        try {
+            source.get();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    @Benchmark
+    public Integer legacy(ExceptionCounters counters) {
+        int seed = this.seed++;
+        Try<Integer> result = Try.of(() -> seed);
+        for (int i = 0; i < CHAIN_DEPTH; i++) {
+            result = counters.count(i % 2 == 0
+                    ? legacyFlatMap(result, value -> FAILED_STEP)
+                    : legacyRecoverWith(result, throwable -> Try.of(() -> seed + 1)));
+        }
+        counters.chains++;
+        return result.getOrElse(0);
+    }
+
+    @Benchmark
+    public Integer passThrough(ExceptionCounters counters) {
+        int seed = this.seed++;
+        Try<Integer> result = Try.of(() -> seed);
+        for (int i = 0; i < CHAIN_DEPTH; i++) {
+            result = counters.count(i % 2 == 0
+                    ? result.flatMap(value -> FAILED_STEP)
+                    : result.recoverWith(throwable -> Try.of(() -> seed + 1)));
+        }
+        counters.chains++;
+        return result.getOrElse(0);
+    }
+}
@@ -0,0 +1,81 @@
+package Try;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a recursive algorithm written as an eager flatMap chain with the same algorithm
+ * written on top of {@link TrampolinedTry} at depths from 10^3 to 10^6.
+ *
+ * The eager version keeps every level on the thread stack. Once the depth exceeds what the stack can hold,
+ * it returns a Failure that holds a StackOverflowError, because Try.of catches it. Timing such a run
+ * is meaningless, so the setup of the eager benchmark fails for those depths and JMH reports
+ * them as errors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrampolineBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Depth {
+        @Param({"1000", "10000", "100000", "1000000"})
+        long depth;
+    }
+
+    @State(Scope.Benchmark)
+    public static class EagerDepth extends Depth {
+        @Setup
+        public void setUp() {
+            // initializes Failure before the eager version exhausts the stack
+            Try.of(() -> 1 / 0);
+            Try<Long> result = eagerSum(depth);
+            if (result instanceof Failure && ((Failure<Long>) result).cause() instanceof StackOverflowError) {
+                throw new IllegalStateException("The eager sum overflows the stack at depth " + depth);
+            }
+        }
+    }
+
+    /**
+     * Sums 1..n recursively, every level is a nested flatMap
+     */
+    private static Try<Long> eagerSum(long n) {
+        if (n == 0) {
+            return Try.of(() -> 0L);
+        }
+        return Try.of(() -> n).flatMap(value -> eagerSum(value - 1).map(sum -> sum + value));
+    }
+
+    /**
+     * Sums 1..n recursively, every level is a deferred tail call
+     */
+    private static TrampolinedTry<Long> trampolinedSum(long n) {
+        if (n == 0) {
+            return Try.suspend(() -> 0L);
+        }
+        return Try.tailCall(() -> trampolinedSum(n - 1)).map(sum -> sum + n);
+    }
+
+    @Benchmark
+    public Try<Long> eager(EagerDepth input) {
+        return eagerSum(input.depth);
+    }
+
+    @Benchmark
+    public Try<Long> trampolined(Depth input) {
+        return trampolinedSum(input.depth).run();
+    }
+}
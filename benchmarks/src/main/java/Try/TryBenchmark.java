@@ -0,0 +1,93 @@
+package Try;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the success and failure paths of Try for chains of different depth.
+ *
+ * The benchmark lives in the Try package because Try and its implementations are package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryBenchmark {
+    @Param({"1", "10", "100"})
+    int depth;
+
+    @Param({"true", "false"})
+    boolean success;
+
+    private int input;
+
+    @Setup
+    public void setUp() {
+        input = success ? 42 : 0;
+    }
+
+    @Benchmark
+    public Try<Integer> of() {
+        int divisor = input;
+        return Try.of(() -> 1000 / divisor);
+    }
+
+    @Benchmark
+    public Integer mapChain() {
+        int divisor = input;
+        Try<Integer> result = Try.of(() -> 1000 / divisor);
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.getOrElse(-1);
+    }
+
+    @Benchmark
+    public Integer flatMapChain() {
+        int divisor = input;
+        Try<Integer> result = Try.of(() -> 1000 / divisor);
+        for (int i = 0; i < depth; i++) {
+            result = result.flatMap(value -> Try.of(() -> value + 1));
+        }
+        return result.getOrElse(-1);
+    }
+
+    @Benchmark
+    public Integer failingStepInChain() {
+        int divisor = input;
+        Try<Integer> result = Try.of(() -> 1000);
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value / divisor);
+        }
+        return result.recover(e -> -1).getOrElse(-2);
+    }
+
+    @Benchmark
+    public Integer lazyChain() {
+        int divisor = input;
+        LazyTry<Integer> result = Try.defer(() -> 1000 / divisor);
+        for (int i = 0; i < depth; i++) {
+            result = result.map(value -> value + 1);
+        }
+        return result.getOrElse(-1);
+    }
+
+    @Benchmark
+    public Integer fold() {
+        int divisor = input;
+        return Try.of(() -> 1000 / divisor).fold(value -> value, e -> -1);
+    }
+}
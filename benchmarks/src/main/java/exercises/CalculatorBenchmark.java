@@ -0,0 +1,53 @@
+package exercises;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures chains of Calculator.eval from Monad.java. The failing chain breaks at the first step,
+ * so the rest of it measures how cheaply a broken calculator propagates
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculatorBenchmark {
+    private static final Function<Object, Object> INCREMENT = value -> (Integer) value + 1;
+
+    @Param({"1", "10", "100"})
+    int depth;
+
+    @Param({"true", "false"})
+    boolean success;
+
+    private Function<Object, Object> firstStep;
+
+    @Setup
+    public void setUp() {
+        int divisor = success ? 1 : 0;
+        firstStep = value -> (Integer) value / divisor;
+    }
+
+    @Benchmark
+    public Object evalChain() {
+        Object calculator = Exercises.eval(Exercises.calculatorOf(1000), firstStep);
+        for (int i = 1; i < depth; i++) {
+            calculator = Exercises.eval(calculator, INCREMENT);
+        }
+        return calculator;
+    }
+}
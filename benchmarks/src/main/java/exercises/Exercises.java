@@ -0,0 +1,325 @@
+package exercises;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+/**
+ * Gives the benchmarks access to the exercises of the default package.
+ *
+ * JMH does not accept benchmarks in the default package and a named package cannot refer to it,
+ * so every exercise method is looked up once by reflection and kept in a static final MethodHandle,
+ * which the JIT treats as a constant and inlines like a direct call.
+ */
+final class Exercises {
+    private static final MethodHandle CALCULATOR_OF = method("Calculator", "of");
+    private static final MethodHandle CALCULATOR_EVAL = method("Calculator", "eval");
+
+    private static final MethodHandle NEW_APPLICATION = constructor("Application");
+    private static final MethodHandle APPLICATION_IS_FREE = method("Application", "isFree");
+    private static final MethodHandle GET_PARTITION = method("Partitioner", "getPartition");
+
+    private static final MethodHandle NEW_TEAM = constructor("Team");
+    private static final MethodHandle TEAM_NAME = method("Team", "getName");
+    private static final MethodHandle TEAM_PLACE = method("Team", "getPlace");
+    private static final MethodHandle GET_TEAM_PLACE_MAP = method("Competition", "getTeamPlaceMap");
+
+    private static final MethodHandle NEW_LOG_ENTRY = constructor("LogEntry");
+    private static final MethodHandle LOG_ENTRY_URL = method("LogEntry", "getUrl");
+    private static final MethodHandle GET_URL_TO_NUMBER_OF_VISITED =
+            method("UserActivityMonitoring", "getUrlToNumberOfVisited");
+
+    private static final MethodHandle NEW_EMPLOYEE = constructor("Employee");
+    private static final MethodHandle EMPLOYEE_SALARY = method("Employee", "getSalary");
+    private static final MethodHandle NEW_DEPARTMENT = constructor("Department");
+    private static final MethodHandle DEPARTMENT_CODE = method("Department", "getCode");
+    private static final MethodHandle DEPARTMENT_EMPLOYEES = method("Department", "getEmployees");
+    private static final MethodHandle CALC_NUMBER_OF_EMPLOYEES = method("EmployeesCounter", "calcNumberOfEmployees");
+
+    private static final MethodHandle NEW_TAG = constructor("Tag");
+    private static final MethodHandle TAG_NAME = method("Tag", "getName");
+    private static final MethodHandle NEW_XML_FILE = constructor("XmlFile");
+    private static final MethodHandle XML_FILE_ENCODING = method("XmlFile", "getEncoding");
+    private static final MethodHandle XML_FILE_TAGS = method("XmlFile", "getTags");
+    private static final MethodHandle COUNT_ALL_BY_TAG_NAME = method("XmlUtils", "countAllByTagName");
+
+    private static final MethodHandle IS_PRIME = method("ParallelPrimes$NumberUtils", "isPrime");
+    private static final MethodHandle CREATE_PRIMES_FILTERING_STREAM =
+            method("ParallelPrimes", "createPrimesFilteringStream");
+    private static final MethodHandle CREATE_ORDERED_PRIMES_STREAM =
+            method("ParallelPrimes", "createOrderedPrimesStream");
+
+    private Exercises() {
+    }
+
+    static Object calculatorOf(Integer value) {
+        try {
+            return (Object) CALCULATOR_OF.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object eval(Object calculator, Function<Object, Object> mapper) {
+        try {
+            return (Object) CALCULATOR_EVAL.invokeExact(calculator, (Object) mapper);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newApplication(String name, boolean isFree) {
+        try {
+            return (Object) NEW_APPLICATION.invokeExact((Object) name, isFree);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isFree(Object application) {
+        try {
+            return (boolean) APPLICATION_IS_FREE.invokeExact(application);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<Boolean, List<Object>> getPartition(List<Object> applications) {
+        try {
+            return (Map<Boolean, List<Object>>) (Object) GET_PARTITION.invokeExact((Object) applications);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newTeam(String name, int place) {
+        try {
+            return (Object) NEW_TEAM.invokeExact((Object) name, place);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String teamName(Object team) {
+        try {
+            return (String) (Object) TEAM_NAME.invokeExact(team);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int teamPlace(Object team) {
+        try {
+            return (int) TEAM_PLACE.invokeExact(team);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Integer> getTeamPlaceMap(Collection<Object> teams) {
+        try {
+            return (Map<String, Integer>) (Object) GET_TEAM_PLACE_MAP.invokeExact((Object) teams);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newLogEntry(Date created, String login, String url) {
+        try {
+            return (Object) NEW_LOG_ENTRY.invokeExact((Object) created, (Object) login, (Object) url);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String url(Object logEntry) {
+        try {
+            return (String) (Object) LOG_ENTRY_URL.invokeExact(logEntry);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Long> getUrlToNumberOfVisited(List<Object> logs) {
+        try {
+            return (Map<String, Long>) (Object) GET_URL_TO_NUMBER_OF_VISITED.invokeExact((Object) logs);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newEmployee(String name, Long salary) {
+        try {
+            return (Object) NEW_EMPLOYEE.invokeExact((Object) name, (Object) salary);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Long salary(Object employee) {
+        try {
+            return (Long) (Object) EMPLOYEE_SALARY.invokeExact(employee);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newDepartment(String name, String code, List<Object> employees) {
+        try {
+            return (Object) NEW_DEPARTMENT.invokeExact((Object) name, (Object) code, (Object) employees);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String code(Object department) {
+        try {
+            return (String) (Object) DEPARTMENT_CODE.invokeExact(department);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Object> employees(Object department) {
+        try {
+            return (List<Object>) (Object) DEPARTMENT_EMPLOYEES.invokeExact(department);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long calcNumberOfEmployees(List<Object> departments, long threshold) {
+        try {
+            return (long) CALC_NUMBER_OF_EMPLOYEES.invokeExact((Object) departments, threshold);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newTag(String name) {
+        try {
+            return (Object) NEW_TAG.invokeExact((Object) name);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String tagName(Object tag) {
+        try {
+            return (String) (Object) TAG_NAME.invokeExact(tag);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object newXmlFile(String id, String encoding, List<Object> tags) {
+        try {
+            return (Object) NEW_XML_FILE.invokeExact((Object) id, (Object) encoding, (Object) tags);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String encoding(Object xmlFile) {
+        try {
+            return (String) (Object) XML_FILE_ENCODING.invokeExact(xmlFile);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Object> tags(Object xmlFile) {
+        try {
+            return (List<Object>) (Object) XML_FILE_TAGS.invokeExact(xmlFile);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Long> countAllByTagName(List<Object> files, String tagName) {
+        try {
+            return (Map<String, Long>) (Object) COUNT_ALL_BY_TAG_NAME.invokeExact((Object) files, (Object) tagName);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isPrime(long n) {
+        try {
+            return (boolean) IS_PRIME.invokeExact(n);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static LongStream createPrimesFilteringStream(long start, long end) {
+        try {
+            return (LongStream) (Object) CREATE_PRIMES_FILTERING_STREAM.invokeExact(start, end);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static LongStream createOrderedPrimesStream(long start, long end) {
+        try {
+            return (LongStream) (Object) CREATE_ORDERED_PRIMES_STREAM.invokeExact(start, end);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Returns a handle to the only method with the given name, with all the reference types erased to Object
+     */
+    private static MethodHandle method(String className, String name) {
+        try {
+            for (Method method : Class.forName(className).getDeclaredMethods()) {
+                if (method.getName().equals(name)) {
+                    method.setAccessible(true);
+                    MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                    return handle.asType(handle.type().erase());
+                }
+            }
+            throw new NoSuchMethodException(className + "." + name);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Returns a handle to the only constructor of the given class, with all the reference types erased to Object
+     */
+    private static MethodHandle constructor(String className) {
+        try {
+            Constructor<?> constructor = Class.forName(className).getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            return handle.asType(handle.type().erase());
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,52 @@
+package exercises;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the ways to consume the primes below 10^6 to 10^8 in ascending order.
+ *
+ * filterForEachOrdered is the original approach, a parallel range filtered by NumberUtils.isPrime,
+ * sieveForEachOrdered consumes the parallel segmented sieve with forEachOrdered
+ * and orderedSpliterator consumes the sequential stream fed by OrderedPrimesSpliterator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class PrimesBenchmark {
+    @Param({"1000000", "10000000", "100000000"})
+    long end;
+
+    @Benchmark
+    public void filterForEachOrdered(Blackhole blackhole) {
+        LongStream.rangeClosed(0, end)
+                .parallel()
+                .filter(Exercises::isPrime)
+                .forEachOrdered(blackhole::consume);
+    }
+
+    @Benchmark
+    public void sieveForEachOrdered(Blackhole blackhole) {
+        Exercises.createPrimesFilteringStream(0, end).forEachOrdered(blackhole::consume);
+    }
+
+    @Benchmark
+    public void orderedSpliterator(Blackhole blackhole) {
+        Exercises.createOrderedPrimesStream(0, end).forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,201 @@
+package exercises;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the collector-based exercises on inputs of 10 to 10^7 elements.
+ *
+ * The sequential benchmarks call the exercise methods as they are, the parallel ones run the same pipeline
+ * on a parallel stream. Every exercise has its own input state, so only the input of the running benchmark
+ * is allocated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class StreamExercisesBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Applications {
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Object> applications;
+
+        @Setup
+        public void setUp() {
+            applications = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                applications.add(Exercises.newApplication("app" + i, i % 3 == 0));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Teams {
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Object> teams;
+
+        @Setup
+        public void setUp() {
+            teams = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                // places are shuffled deterministically so that sorting has work to do
+                teams.add(Exercises.newTeam("team" + i, (int) ((i * 7919L) % size)));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Logs {
+        private static final int URLS = 1000;
+
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Object> logs;
+
+        @Setup
+        public void setUp() {
+            Date created = new Date(0);
+            String[] urls = new String[URLS];
+            for (int i = 0; i < URLS; i++) {
+                urls[i] = "/page/" + i;
+            }
+            logs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                logs.add(Exercises.newLogEntry(created, "user", urls[i % URLS]));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Departments {
+        private static final int EMPLOYEES_PER_DEPARTMENT = 10;
+
+        /**
+         * The total number of employees
+         */
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Object> departments;
+
+        @Setup
+        public void setUp() {
+            departments = new ArrayList<>(size / EMPLOYEES_PER_DEPARTMENT + 1);
+            for (int first = 0; first < size; first += EMPLOYEES_PER_DEPARTMENT) {
+                List<Object> employees = new ArrayList<>(EMPLOYEES_PER_DEPARTMENT);
+                for (int i = first; i < Math.min(size, first + EMPLOYEES_PER_DEPARTMENT); i++) {
+                    employees.add(Exercises.newEmployee("employee", 10_000L + i % 20_000));
+                }
+                String code = (first / EMPLOYEES_PER_DEPARTMENT % 2 == 0 ? "111-" : "222-") + first;
+                departments.add(Exercises.newDepartment("department", code, employees));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class XmlFiles {
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Object> files;
+
+        @Setup
+        public void setUp() {
+            List<Object> withSheet = List.of(Exercises.newTag("sheet"), Exercises.newTag("row"));
+            List<Object> withoutSheet = List.of(Exercises.newTag("table"), Exercises.newTag("main"),
+                    Exercises.newTag("row"));
+            files = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                files.add(Exercises.newXmlFile(String.valueOf(i), i % 2 == 0 ? "UTF-8" : "ASCII",
+                        i % 3 == 0 ? withSheet : withoutSheet));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Object>> partitionSequential(Applications input) {
+        return Exercises.getPartition(input.applications);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Object>> partitionParallel(Applications input) {
+        return input.applications.parallelStream()
+                .collect(Collectors.partitioningBy(Exercises::isFree));
+    }
+
+    @Benchmark
+    public Map<String, Integer> teamPlacesSequential(Teams input) {
+        return Exercises.getTeamPlaceMap(input.teams);
+    }
+
+    @Benchmark
+    public Map<String, Integer> teamPlacesParallel(Teams input) {
+        return input.teams.parallelStream()
+                .sorted(Comparator.comparingInt(Exercises::teamPlace))
+                .collect(Collectors.toMap(Exercises::teamName, Exercises::teamPlace, (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    @Benchmark
+    public Map<String, Long> visitedUrlsSequential(Logs input) {
+        return Exercises.getUrlToNumberOfVisited(input.logs);
+    }
+
+    @Benchmark
+    public Map<String, Long> visitedUrlsParallel(Logs input) {
+        return input.logs.parallelStream()
+                .collect(Collectors.groupingBy(Exercises::url, Collectors.counting()));
+    }
+
+    @Benchmark
+    public long employeesSequential(Departments input) {
+        return Exercises.calcNumberOfEmployees(input.departments, 20_000);
+    }
+
+    @Benchmark
+    public long employeesParallel(Departments input) {
+        return input.departments.parallelStream()
+                .filter(department -> Exercises.code(department).startsWith("111-"))
+                .flatMap(department -> Exercises.employees(department).stream())
+                .filter(employee -> Exercises.salary(employee) >= 20_000)
+                .count();
+    }
+
+    @Benchmark
+    public Map<String, Long> tagsSequential(XmlFiles input) {
+        return Exercises.countAllByTagName(input.files, "sheet");
+    }
+
+    @Benchmark
+    public Map<String, Long> tagsParallel(XmlFiles input) {
+        return input.files.parallelStream()
+                .collect(Collectors.groupingBy(Exercises::encoding, Collectors.filtering(
+                        file -> Exercises.tags(file).stream().anyMatch(tag -> Exercises.tagName(tag).equals("sheet")),
+                        Collectors.flatMapping(file -> Exercises.tags(file).stream(), Collectors.counting()))));
+    }
+}
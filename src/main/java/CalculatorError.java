@@ -0,0 +1,21 @@
+/**
+ * It represents the reason why a checked calculator is broken
+ */
+enum CalculatorError {
+    /**
+     * No error has occurred
+     */
+    NONE,
+    /**
+     * The result doesn't fit into a long
+     */
+    OVERFLOW,
+    /**
+     * The value has been divided by zero
+     */
+    DIV_ZERO,
+    /**
+     * The calculator has been created with null
+     */
+    NULL
+}
@@ -0,0 +1,220 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * This class represents a chain of calculator steps over long values that is recorded once
+ * and then applied to many seeds, created by {@link Calculator#pipeline()}.
+ *
+ * The steps are folded into a single method handle, so applying the pipeline creates neither intermediate
+ * calculators nor boxed values. If the pipeline is kept in a static final field, the JIT treats the handle
+ * as a constant and can inline the whole chain into the caller.
+ *
+ * Like {@link Calculator#eval}, a step that throws ArithmeticException or NullPointerException breaks the chain.
+ * Pipelines are immutable, so they can be shared between threads.
+ */
+class CalculatorPipeline implements LongUnaryOperator {
+    /**
+     * The number of lanes evaluated by a single task, a multiple of 64 so that every task owns whole mask words
+     */
+    private static final int CHUNK = 4096;
+
+    private static final MethodHandle APPLY_AS_LONG;
+    /**
+     * (Throwable, long seed, long orElse)long that returns orElse
+     */
+    private static final MethodHandle OR_ELSE;
+
+    static {
+        try {
+            APPLY_AS_LONG = MethodHandles.publicLookup().findVirtual(LongUnaryOperator.class, "applyAsLong",
+                    MethodType.methodType(long.class, long.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        OR_ELSE = MethodHandles.dropArguments(MethodHandles.identity(long.class), 0, Throwable.class, long.class);
+    }
+
+    /**
+     * The recorded steps in the order of evaluation
+     */
+    private final LongUnaryOperator[] steps;
+    /**
+     * (long seed)long that applies all the steps
+     */
+    private final MethodHandle chain;
+    /**
+     * (long seed, long orElse)long that applies all the steps and returns orElse if the chain breaks
+     */
+    private final MethodHandle guarded;
+
+    private CalculatorPipeline(LongUnaryOperator[] steps, MethodHandle chain) {
+        this.steps = steps;
+        this.chain = chain;
+        MethodHandle withOrElse = MethodHandles.dropArguments(chain, 1, long.class);
+        this.guarded = MethodHandles.catchException(
+                MethodHandles.catchException(withOrElse, ArithmeticException.class,
+                        OR_ELSE.asType(OR_ELSE.type().changeParameterType(0, ArithmeticException.class))),
+                NullPointerException.class,
+                OR_ELSE.asType(OR_ELSE.type().changeParameterType(0, NullPointerException.class)));
+    }
+
+    /**
+     * The method creates a pipeline without any steps, it returns the seed as is.
+     */
+    static CalculatorPipeline empty() {
+        return new CalculatorPipeline(new LongUnaryOperator[0], MethodHandles.identity(long.class));
+    }
+
+    /**
+     * The method returns a new pipeline that applies a given function after all the steps of this one.
+     */
+    public CalculatorPipeline eval(LongUnaryOperator mapper) {
+        LongUnaryOperator[] extended = Arrays.copyOf(steps, steps.length + 1);
+        extended[steps.length] = mapper;
+        return new CalculatorPipeline(extended, MethodHandles.filterReturnValue(chain, APPLY_AS_LONG.bindTo(mapper)));
+    }
+
+    /**
+     * The method applies the pipeline to a given seed.
+     *
+     * @throws ArithmeticException  if a step has thrown it, i.e. the chain is broken
+     * @throws NullPointerException if a step has thrown it, i.e. the chain is broken
+     */
+    @Override
+    public long applyAsLong(long seed) {
+        try {
+            return (long) chain.invokeExact(seed);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * The method applies the pipeline to a given seed and returns a given value if the chain breaks.
+     * It never throws ArithmeticException or NullPointerException
+     */
+    public long applyAsLong(long seed, long orElse) {
+        try {
+            return (long) guarded.invokeExact(seed, orElse);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * The method applies the pipeline to a given seed and returns the result as a calculator,
+     * which is broken if the chain breaks
+     */
+    public LongCalculator apply(long seed) {
+        try {
+            return LongCalculator.of((long) chain.invokeExact(seed));
+        } catch (ArithmeticException | NullPointerException e) {
+            return LongCalculator.broken();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * The method applies the pipeline to every element of the input and writes the results into out
+     * at the same indexes. The input and out may be the same array.
+     *
+     * Instead of building a calculator per element, every step is applied to a whole chunk of elements
+     * before the next one, and the elements whose chain breaks are marked in a bitmask and skipped
+     * by the following steps. Large arrays are split into chunks that are evaluated in parallel
+     * by the common ForkJoinPool. After the call the bits of the broken elements in the given BitSet
+     * are set, the other bits below input.length are cleared, and out holds zero for the broken elements.
+     */
+    public void evalAll(long[] input, long[] out, BitSet broken) {
+        if (out.length < input.length) {
+            throw new IllegalArgumentException("Output is shorter than input: " + out.length + " < " + input.length);
+        }
+        long[] mask = new long[(input.length + 63) >>> 6];
+        EvalTask task = new EvalTask(steps, input, out, mask, 0, input.length);
+        if (input.length <= CHUNK) {
+            task.compute();
+        } else {
+            task.invoke();
+        }
+
+        broken.clear(0, input.length);
+        for (int word = 0; word < mask.length; word++) {
+            for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                broken.set((word << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+
+    /**
+     * It returns the number of recorded steps
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    /**
+     * Evaluates the lanes [from, to) step by step, splitting ranges longer than CHUNK in halves
+     */
+    private static final class EvalTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final LongUnaryOperator[] steps;
+        private final long[] input;
+        private final long[] out;
+        /**
+         * One bit per lane, set if its chain is broken
+         */
+        private final long[] mask;
+        private final int from;
+        private final int to;
+
+        EvalTask(LongUnaryOperator[] steps, long[] input, long[] out, long[] mask, int from, int to) {
+            this.steps = steps;
+            this.input = input;
+            this.out = out;
+            this.mask = mask;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK) {
+                // the middle is aligned to a mask word, so the halves never write the same word
+                int middle = from + ((to - from) / 2 & -64);
+                invokeAll(new EvalTask(steps, input, out, mask, from, middle),
+                        new EvalTask(steps, input, out, mask, middle, to));
+                return;
+            }
+
+            System.arraycopy(input, from, out, from, to - from);
+            for (LongUnaryOperator step : steps) {
+                for (int i = from; i < to; i++) {
+                    if ((mask[i >>> 6] & (1L << i)) == 0) {
+                        try {
+                            out[i] = step.applyAsLong(out[i]);
+                        } catch (ArithmeticException | NullPointerException e) {
+                            mask[i >>> 6] |= 1L << i;
+                        }
+                    }
+                }
+            }
+            for (int i = from; i < to; i++) {
+                if ((mask[i >>> 6] & (1L << i)) != 0) {
+                    out[i] = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.function.LongConsumer;
+
+/**
+ * This class represents a calculator over long values with checked arithmetic, created by {@link Calculator#ops()}.
+ *
+ * Every operation checks its operands and the result with plain comparisons instead of catching
+ * an ArithmeticException, so a broken chain never allocates an exception. The first error is recorded
+ * in the error field and the following operations are skipped. Operations update the calculator in place,
+ * so it must not be shared between threads.
+ */
+class CheckedCalculator {
+    /**
+     * The value stored inside the calculator
+     */
+    private long value;
+    /**
+     * The reason why the calculator is broken, NONE if it isn't
+     */
+    private CalculatorError error;
+
+    CheckedCalculator(long value, CalculatorError error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * It adds the given operand to the value
+     */
+    public CheckedCalculator add(long operand) {
+        if (error == CalculatorError.NONE) {
+            long result = value + operand;
+            // the sum overflows only if both operands have the same sign and the result has the opposite one
+            if (((value ^ result) & (operand ^ result)) < 0) {
+                error = CalculatorError.OVERFLOW;
+            } else {
+                value = result;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * It multiplies the value by the given operand
+     */
+    public CheckedCalculator mul(long operand) {
+        if (error == CalculatorError.NONE) {
+            error = multiply(operand);
+        }
+        return this;
+    }
+
+    /**
+     * It divides the value by the given operand, rounding toward zero
+     */
+    public CheckedCalculator div(long operand) {
+        if (error == CalculatorError.NONE) {
+            if (operand == 0) {
+                error = CalculatorError.DIV_ZERO;
+            } else if (operand == -1 && value == Long.MIN_VALUE) {
+                error = CalculatorError.OVERFLOW;
+            } else {
+                value /= operand;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * It raises the value to the given power. A negative exponent is treated as the integer division
+     * of 1 by the positive power, so it is zero unless the value is 1 or -1
+     */
+    public CheckedCalculator pow(int exponent) {
+        if (error != CalculatorError.NONE) {
+            return this;
+        }
+        if (exponent < 0) {
+            if (value == 0) {
+                error = CalculatorError.DIV_ZERO;
+            } else if (value != 1 && value != -1) {
+                value = 0;
+            } else if ((exponent & 1) == 0) {
+                value = 1;
+            }
+            return this;
+        }
+
+        long base = value;
+        value = 1;
+        // exponentiation by squaring, the base is squared only while there are exponent bits left
+        while (exponent != 0) {
+            if ((exponent & 1) != 0 && (error = multiply(base)) != CalculatorError.NONE) {
+                return this;
+            }
+            exponent >>>= 1;
+            if (exponent != 0) {
+                long square = base * base;
+                if (Math.multiplyHigh(base, base) != 0 || square < 0) {
+                    error = CalculatorError.OVERFLOW;
+                    return this;
+                }
+                base = square;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * It multiplies the value by the given operand in place and returns the error code
+     */
+    private CalculatorError multiply(long operand) {
+        long high = Math.multiplyHigh(value, operand);
+        long low = value * operand;
+        // the product fits into a long only if the high half is the sign extension of the low one
+        if (high != (low >> 63)) {
+            return CalculatorError.OVERFLOW;
+        }
+        value = low;
+        return CalculatorError.NONE;
+    }
+
+    /**
+     * The method passes the stored value to a given consumer only if no errors have occurred in the calculator.
+     */
+    public CheckedCalculator consume(LongConsumer consumer) {
+        if (error == CalculatorError.NONE) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * It returns true if an error has occurred in the calculator
+     */
+    public boolean isBroken() {
+        return error != CalculatorError.NONE;
+    }
+
+    /**
+     * It returns the reason why the calculator is broken, NONE if it isn't
+     */
+    public CalculatorError getError() {
+        return error;
+    }
+
+    /**
+     * It returns the stored value, which is meaningless if the calculator is broken
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * It converts this calculator into a boxed one with the same value or error
+     */
+    public Calculator<Long> boxed() {
+        return Calculator.of(isBroken() ? null : value);
+    }
+
+    @Override
+    public String toString() {
+        return isBroken() ? "CheckedCalculator[" + error + "]" : "CheckedCalculator[" + value + "]";
+    }
+}
@@ -0,0 +1,92 @@
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * This class represents a monadic-like calculator over double values.
+ * Unlike Calculator<Double> it never boxes the value.
+ */
+class DoubleCalculator extends PrimitiveCalculator {
+    /**
+     * It represents a calculator in which an error has occurred
+     */
+    private static final DoubleCalculator BROKEN_CALCULATOR = new DoubleCalculator(0, true, false);
+    /**
+     * The value stored inside the calculator
+     */
+    private double value;
+
+    private DoubleCalculator(double value, boolean hasError, boolean mutable) {
+        super(hasError, mutable);
+        this.value = value;
+    }
+
+    /**
+     * The method creates a new instance of the calculator with a specified initial value.
+     */
+    public static DoubleCalculator of(double value) {
+        return new DoubleCalculator(value, false, false);
+    }
+
+    /**
+     * The method creates a calculator in the builder mode: eval updates its value in place and returns it,
+     * so a chain of any length allocates nothing. Such a calculator must not be shared between threads
+     */
+    public static DoubleCalculator mutableOf(double value) {
+        return new DoubleCalculator(value, false, true);
+    }
+
+    /**
+     * The method applies a given function to the value stored in the calculator.
+     * It never throws ArithmeticException or NullPointerException. Note that double arithmetic itself
+     * never throws ArithmeticException, a division by zero results in an infinity or NaN
+     */
+    public DoubleCalculator eval(DoubleUnaryOperator mapper) {
+        if (isBroken()) {
+            return this;
+        }
+        double result;
+        try {
+            result = mapper.applyAsDouble(value);
+        } catch (RuntimeException e) {
+            return breakChain(e) ? this : BROKEN_CALCULATOR;
+        }
+        if (isMutable()) {
+            value = result;
+            return this;
+        }
+        return new DoubleCalculator(result, false, false);
+    }
+
+    /**
+     * The method passes the stored value to a given consumer only if no errors have occurred in the calculator.
+     */
+    public DoubleCalculator consume(DoubleConsumer consumer) {
+        if (!isBroken()) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * It converts this calculator into a boxed one with the same value or error
+     */
+    public Calculator<Double> boxed() {
+        return Calculator.of(isBroken() ? null : value);
+    }
+
+    public static void main(String[] args) {
+        DoubleCalculator.of(10)
+                .consume(System.out::println)  // shows the current value 10.0
+                .eval(value -> value * 10)     // evaluates a new expression: 100.0
+                .eval(value -> value / 8)      // evaluates a new expression: 12.5
+                .consume(System.out::println)  // shows the current value 12.5
+                .eval(value -> Math.toIntExact((long) value * 1_000_000_000L)) // provokes an error
+                .consume(System.out::println); // doesn't print anything
+
+        DoubleCalculator calculator = DoubleCalculator.mutableOf(1);
+        for (int i = 0; i < 20; i++) {
+            calculator.eval(value -> value * 2); // updates the value in place
+        }
+        calculator.consume(System.out::println); // shows 1048576.0
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * This class represents a monadic-like calculator over int values.
+ * Unlike Calculator<Integer> it never boxes the value.
+ */
+class IntCalculator extends PrimitiveCalculator {
+    /**
+     * It represents a calculator in which an error has occurred
+     */
+    private static final IntCalculator BROKEN_CALCULATOR = new IntCalculator(0, true, false);
+    /**
+     * The value stored inside the calculator
+     */
+    private int value;
+
+    private IntCalculator(int value, boolean hasError, boolean mutable) {
+        super(hasError, mutable);
+        this.value = value;
+    }
+
+    /**
+     * The method creates a new instance of the calculator with a specified initial value.
+     */
+    public static IntCalculator of(int value) {
+        return new IntCalculator(value, false, false);
+    }
+
+    /**
+     * The method creates a calculator in the builder mode: eval updates its value in place and returns it,
+     * so a chain of any length allocates nothing. Such a calculator must not be shared between threads
+     */
+    public static IntCalculator mutableOf(int value) {
+        return new IntCalculator(value, false, true);
+    }
+
+    /**
+     * The method applies a given function to the value stored in the calculator.
+     * It never throws ArithmeticException or NullPointerException
+     */
+    public IntCalculator eval(IntUnaryOperator mapper) {
+        if (isBroken()) {
+            return this;
+        }
+        int result;
+        try {
+            result = mapper.applyAsInt(value);
+        } catch (RuntimeException e) {
+            return breakChain(e) ? this : BROKEN_CALCULATOR;
+        }
+        if (isMutable()) {
+            value = result;
+            return this;
+        }
+        return new IntCalculator(result, false, false);
+    }
+
+    /**
+     * The method passes the stored value to a given consumer only if no errors have occurred in the calculator.
+     */
+    public IntCalculator consume(IntConsumer consumer) {
+        if (!isBroken()) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * It converts this calculator into a boxed one with the same value or error
+     */
+    public Calculator<Integer> boxed() {
+        return Calculator.of(isBroken() ? null : value);
+    }
+
+    public static void main(String[] args) {
+        IntCalculator.of(10)
+                .consume(System.out::println)  // shows the current value 10
+                .eval(value -> value * 10)     // evaluates a new expression: 100
+                .eval(value -> value + 5)      // evaluates a new expression: 105
+                .consume(System.out::println)  // shows the current value 105
+                .eval(value -> value / 0)      // provokes an error
+                .consume(System.out::println); // doesn't print anything
+
+        IntCalculator calculator = IntCalculator.mutableOf(1);
+        for (int i = 0; i < 20; i++) {
+            calculator.eval(value -> value * 2); // updates the value in place
+        }
+        calculator.consume(System.out::println); // shows 1048576
+    }
+}
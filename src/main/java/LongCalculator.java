@@ -0,0 +1,98 @@
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * This class represents a monadic-like calculator over long values.
+ * Unlike Calculator<Long> it never boxes the value.
+ */
+class LongCalculator extends PrimitiveCalculator {
+    /**
+     * It represents a calculator in which an error has occurred
+     */
+    private static final LongCalculator BROKEN_CALCULATOR = new LongCalculator(0, true, false);
+    /**
+     * The value stored inside the calculator
+     */
+    private long value;
+
+    private LongCalculator(long value, boolean hasError, boolean mutable) {
+        super(hasError, mutable);
+        this.value = value;
+    }
+
+    /**
+     * The method creates a new instance of the calculator with a specified initial value.
+     */
+    public static LongCalculator of(long value) {
+        return new LongCalculator(value, false, false);
+    }
+
+    /**
+     * It returns the shared calculator in which an error has occurred
+     */
+    static LongCalculator broken() {
+        return BROKEN_CALCULATOR;
+    }
+
+    /**
+     * The method creates a calculator in the builder mode: eval updates its value in place and returns it,
+     * so a chain of any length allocates nothing. Such a calculator must not be shared between threads
+     */
+    public static LongCalculator mutableOf(long value) {
+        return new LongCalculator(value, false, true);
+    }
+
+    /**
+     * The method applies a given function to the value stored in the calculator.
+     * It never throws ArithmeticException or NullPointerException
+     */
+    public LongCalculator eval(LongUnaryOperator mapper) {
+        if (isBroken()) {
+            return this;
+        }
+        long result;
+        try {
+            result = mapper.applyAsLong(value);
+        } catch (RuntimeException e) {
+            return breakChain(e) ? this : BROKEN_CALCULATOR;
+        }
+        if (isMutable()) {
+            value = result;
+            return this;
+        }
+        return new LongCalculator(result, false, false);
+    }
+
+    /**
+     * The method passes the stored value to a given consumer only if no errors have occurred in the calculator.
+     */
+    public LongCalculator consume(LongConsumer consumer) {
+        if (!isBroken()) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * It converts this calculator into a boxed one with the same value or error
+     */
+    public Calculator<Long> boxed() {
+        return Calculator.of(isBroken() ? null : value);
+    }
+
+    public static void main(String[] args) {
+        LongCalculator.of(10)
+                .consume(System.out::println)  // shows the current value 10
+                .eval(value -> value * 10)     // evaluates a new expression: 100
+                .eval(value -> value + 5)      // evaluates a new expression: 105
+                .consume(System.out::println)  // shows the current value 105
+                .eval(value -> value / 0)      // provokes an error
+                .consume(System.out::println); // doesn't print anything
+
+        LongCalculator calculator = LongCalculator.mutableOf(1L);
+        for (int i = 0; i < 20; i++) {
+            calculator.eval(value -> value * 2); // updates the value in place
+        }
+        calculator.consume(System.out::println); // shows 1048576
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * A deterministic Miller-Rabin primality test for all non-negative longs.
+ *
+ * Numbers with a factor below 64 are rejected (or accepted, if they are that factor) by trial division first.
+ * The rest are tested with the 7 bases found by Jim Sinclair, which are known to have no strong pseudoprime
+ * below 2^64. The modular arithmetic is done in the Montgomery form with Math.multiplyHigh,
+ * so it never overflows and never divides.
+ */
+final class MillerRabin {
+    private static final long[] BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61};
+    /**
+     * Numbers below it without a small prime factor are primes
+     */
+    private static final long SMALL_PRIMES_LIMIT = 67L * 67;
+
+    private MillerRabin() {
+    }
+
+    static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (int p : SMALL_PRIMES) {
+            if (n % p == 0) {
+                return n == p;
+            }
+        }
+        if (n < SMALL_PRIMES_LIMIT) {
+            return true;
+        }
+        return new Montgomery(n).isStrongProbablePrimeToAllBases();
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Arithmetic modulo an odd n in the Montgomery form with R = 2^64
+     */
+    private static final class Montgomery {
+        private final long n;
+        /**
+         * -n^-1 mod 2^64
+         */
+        private final long negativeInverse;
+        /**
+         * R mod n, i.e. 1 in the Montgomery form
+         */
+        private final long one;
+        /**
+         * R^2 mod n, used to convert into the Montgomery form
+         */
+        private final long rSquared;
+
+        Montgomery(long n) {
+            this.n = n;
+            // Newton's iteration doubles the number of correct low bits, n is its own inverse modulo 8
+            long inverse = n;
+            for (int i = 0; i < 5; i++) {
+                inverse *= 2 - n * inverse;
+            }
+            this.negativeInverse = -inverse;
+            this.one = Long.remainderUnsigned(-n, n);
+            long r = one;
+            for (int i = 0; i < 64; i++) {
+                r = addModulo(r, r);
+            }
+            this.rSquared = r;
+        }
+
+        boolean isStrongProbablePrimeToAllBases() {
+            long minusOne = n - one;
+            int s = Long.numberOfTrailingZeros(n - 1);
+            long d = (n - 1) >>> s;
+            for (long base : BASES) {
+                long a = base % n;
+                if (a == 0) {
+                    continue;
+                }
+                long x = pow(multiply(a, rSquared), d);
+                if (x == one || x == minusOne) {
+                    continue;
+                }
+                boolean composite = true;
+                for (int i = 1; i < s; i++) {
+                    x = multiply(x, x);
+                    if (x == minusOne) {
+                        composite = false;
+                        break;
+                    }
+                }
+                if (composite) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a * b / R mod n for a and b below n
+         */
+        private long multiply(long a, long b) {
+            // a and b are below 2^63, so the signed high half is the unsigned one
+            long high = Math.multiplyHigh(a, b);
+            long low = a * b;
+            long m = low * negativeInverse;
+            // low + m * n is zero modulo 2^64 by the choice of m, so it carries unless low is zero
+            long t = high + unsignedMultiplyHigh(m, n) + (low != 0 ? 1 : 0);
+            return Long.compareUnsigned(t, n) >= 0 ? t - n : t;
+        }
+
+        private long pow(long base, long exponent) {
+            long result = one;
+            while (exponent != 0) {
+                if ((exponent & 1) != 0) {
+                    result = multiply(result, base);
+                }
+                exponent >>>= 1;
+                if (exponent != 0) {
+                    base = multiply(base, base);
+                }
+            }
+            return result;
+        }
+
+        private long addModulo(long a, long b) {
+            long sum = a + b;
+            return Long.compareUnsigned(sum, n) >= 0 ? sum - n : sum;
+        }
+    }
+}
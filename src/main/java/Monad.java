@@ -49,6 +49,32 @@ class Calculator<T extends Number> {
         }
     }
 
+    /**
+     * The method creates a calculator with checked long arithmetic with zero as the initial value.
+     * It detects overflows and divisions by zero without throwing or catching any exception.
+     */
+    public static CheckedCalculator ops() {
+        return new CheckedCalculator(0, CalculatorError.NONE);
+    }
+
+    /**
+     * The method creates a calculator with checked long arithmetic with a specified initial value.
+     * The calculator is broken with the NULL error if the value is null.
+     */
+    public static CheckedCalculator ops(Long value) {
+        return value == null
+                ? new CheckedCalculator(0, CalculatorError.NULL)
+                : new CheckedCalculator(value, CalculatorError.NONE);
+    }
+
+    /**
+     * The method creates an empty pipeline of long steps. Steps are recorded with its eval method
+     * and the whole chain is then applied to any number of seeds.
+     */
+    public static CalculatorPipeline pipeline() {
+        return CalculatorPipeline.empty();
+    }
+
     /**
      * The method applies a given function to the value stored in the calculator.
      * It never throws ArithmeticException or NullPointerException
@@ -94,5 +120,21 @@ class Calculator<T extends Number> {
                 .consume(System.out::println)  // shows the current value 15
                 .eval(value -> null) // makes the value null
                 .consume(System.out::println); // doesn't print anything
+
+        CheckedCalculator checked = Calculator.ops(10L) // inits a checked calculator with the value 10
+                .mul(10)                       // evaluates a new expression: 100
+                .pow(2)                        // evaluates a new expression: 10000
+                .add(Long.MAX_VALUE)           // overflows, but no exception is thrown
+                .consume(System.out::println); // doesn't print anything
+        System.out.println(checked.getError()); // OVERFLOW
+
+        CalculatorPipeline pipeline = Calculator.pipeline() // records the chain once
+                .eval(value -> value * 10)
+                .eval(value -> value + 5)
+                .eval(value -> 1000 / (value - 15));
+        System.out.println(pipeline.applyAsLong(2));       // 100
+        System.out.println(pipeline.applyAsLong(1, -1));   // the chain breaks, so it shows -1
+        pipeline.apply(3).consume(System.out::println);    // shows 50
+        pipeline.apply(1).consume(System.out::println);    // doesn't print anything
     }
 }
\ No newline at end of file
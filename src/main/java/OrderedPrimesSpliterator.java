@@ -0,0 +1,191 @@
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongConsumer;
+
+/**
+ * A spliterator over the primes of a range in ascending order that sieves the segments ahead of the consumer
+ * in a ForkJoinPool.
+ *
+ * A parallel stream keeps the order of the primes only by buffering the results of its tasks
+ * until every task before them is done, and forEachOrdered then feeds them to the consumer from one thread.
+ * This spliterator never splits, so the stream that uses it is sequential and its consumer sees the primes
+ * in order without any buffering by the stream. The parallelism comes from the pool instead: while
+ * the consumer walks through a segment, at most {@code lookahead} following segments are sieved
+ * by the workers, so all cores stay busy and at most that many segments of 256 KB are in memory.
+ */
+final class OrderedPrimesSpliterator implements Spliterator.OfLong {
+    private static final long SEGMENT_SPAN = 2L * SegmentedSieve.SEGMENT_BITS;
+
+    private final ForkJoinPool pool;
+    /**
+     * The first odd number of the first segment
+     */
+    private final long low;
+    private final long end;
+    private final long segments;
+    private final int[] basePrimes;
+    /**
+     * The sieved or sieving segments that follow the current one, in order
+     */
+    private final ArrayDeque<ForkJoinTask<long[]>> pending;
+
+    private boolean two;
+    private long submitted;
+    /**
+     * The current segment: its first number, its number of bits and the bitmap of its composites
+     */
+    private long segmentLow;
+    private int bits;
+    private long[] composite = new long[0];
+    /**
+     * The next bit of the current segment to look at
+     */
+    private int next;
+
+    /**
+     * Creates a spliterator over the primes in [start, end]
+     *
+     * @param lookahead the maximum number of segments sieved ahead of the consumer
+     * @throws IllegalArgumentException if the end is not below {@link SegmentedSieve#MAX_END}
+     *                                  or the lookahead is not positive
+     */
+    OrderedPrimesSpliterator(long start, long end, int lookahead, ForkJoinPool pool) {
+        if (end >= SegmentedSieve.MAX_END) {
+            throw new IllegalArgumentException("End of the range is too large for the sieve: " + end);
+        }
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("Lookahead must be positive: " + lookahead);
+        }
+        this.pool = pool;
+        long from = Math.max(start, 2);
+        this.two = from == 2 && end >= 2;
+        this.low = Math.max(from, 3) | 1;
+        this.end = end;
+        this.segments = low > end ? 0 : (end - low) / SEGMENT_SPAN + 1;
+        this.basePrimes = segments == 0 ? new int[0] : SegmentedSieve.oddPrimesUpTo((int) SegmentedSieve.sqrt(end));
+        this.pending = new ArrayDeque<>(lookahead);
+        while (pending.size() < lookahead && submitted < segments) {
+            submitNext();
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (two) {
+            two = false;
+            action.accept(2);
+            return true;
+        }
+        do {
+            next = nextClearBit(next);
+            if (next < bits) {
+                action.accept(segmentLow + 2L * next++);
+                return true;
+            }
+        } while (advanceSegment());
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (two) {
+            two = false;
+            action.accept(2);
+        }
+        do {
+            for (int word = next >>> 6; word < composite.length; word++) {
+                long clear = ~composite[word];
+                if (word == next >>> 6) {
+                    clear &= -1L << next;
+                }
+                for (; clear != 0; clear &= clear - 1) {
+                    int bit = (word << 6) + Long.numberOfTrailingZeros(clear);
+                    if (bit >= bits) {
+                        break;
+                    }
+                    action.accept(segmentLow + 2L * bit);
+                }
+            }
+            next = bits;
+        } while (advanceSegment());
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+    /**
+     * Cancels the segments that are sieved ahead, e.g. when the stream is closed before it is consumed
+     */
+    void cancel() {
+        for (ForkJoinTask<long[]> task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+        submitted = segments;
+        composite = new long[0];
+        bits = 0;
+        two = false;
+    }
+
+    /**
+     * Moves to the next segment, waiting for it if it is not sieved yet, and submits one more segment
+     *
+     * @return false if there are no more segments
+     */
+    private boolean advanceSegment() {
+        ForkJoinTask<long[]> task = pending.poll();
+        if (task == null) {
+            return false;
+        }
+        long index = submitted - pending.size() - 1;
+        if (submitted < segments) {
+            submitNext();
+        }
+        segmentLow = low + index * SEGMENT_SPAN;
+        bits = (int) ((Math.min(end, segmentLow + SEGMENT_SPAN - 1) - segmentLow) / 2 + 1);
+        composite = task.join();
+        next = 0;
+        return true;
+    }
+
+    private void submitNext() {
+        long segmentLow = low + submitted++ * SEGMENT_SPAN;
+        long segmentHigh = Math.min(end, segmentLow + SEGMENT_SPAN - 1);
+        pending.add(pool.submit(() -> SegmentedSieve.sieveSegment(segmentLow, segmentHigh, basePrimes)));
+    }
+
+    private int nextClearBit(int from) {
+        int word = from >>> 6;
+        if (word >= composite.length) {
+            return bits;
+        }
+        long clear = ~composite[word] & (-1L << from);
+        while (clear == 0) {
+            if (++word == composite.length) {
+                return bits;
+            }
+            clear = ~composite[word];
+        }
+        return Math.min(bits, (word << 6) + Long.numberOfTrailingZeros(clear));
+    }
+}
@@ -1,22 +1,102 @@
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 public class ParallelPrimes {
     public static void main(String[] args) {
-        createPrimesFilteringStream(0, 1000).forEach(System.out::println);//forEachOrdered
+        createOrderedPrimesStream(0, 1000).forEach(System.out::println);
     }
 
+    /**
+     * The sieve is used only if the range is at least this many times shorter than the square root of its end.
+     * Below it the sieve spends most of its time on the base primes, while a Miller-Rabin test
+     * costs about as much as sieving a few dozen numbers
+     */
+    private static final long SPARSE_RANGE_RATIO = 64;
+
+    /**
+     * Returns a parallel stream of the primes in [start, end] in ascending order.
+     *
+     * Dense ranges are produced by a segmented sieve, see {@link SegmentedSieve}. Ranges that are narrow
+     * compared to the square root of their end, or end beyond the reach of the sieve, are filtered
+     * with the Miller-Rabin test instead, see {@link MillerRabin}
+     */
     public static LongStream createPrimesFilteringStream(long start, long end) {
-        // write your code here
-        return LongStream.rangeClosed(start, end)
-                .parallel()
-                .filter(NumberUtils::isPrime);
+        long from = Math.max(start, 2);
+        if (end >= SegmentedSieve.MAX_END
+                || from <= end && end - from < SegmentedSieve.sqrt(end) / SPARSE_RANGE_RATIO) {
+            return LongStream.rangeClosed(from, end).parallel().filter(NumberUtils::isPrime);
+        }
+        return SegmentedSieve.primes(start, end);
+    }
+
+    /**
+     * Returns a sequential stream of the primes in [start, end] in ascending order that is fed by a parallel
+     * segmented sieve, see {@link OrderedPrimesSpliterator}. Unlike forEachOrdered on a parallel stream,
+     * it keeps all cores busy and only a few segments in memory. Closing the stream cancels the segments
+     * that are sieved ahead.
+     *
+     * @throws IllegalArgumentException if the end is not below {@link SegmentedSieve#MAX_END}
+     */
+    public static LongStream createOrderedPrimesStream(long start, long end) {
+        OrderedPrimesSpliterator spliterator = new OrderedPrimesSpliterator(start, end,
+                2 * ForkJoinPool.getCommonPoolParallelism(), ForkJoinPool.commonPool());
+        return StreamSupport.longStream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    /**
+     * Returns the number of primes in [start, end].
+     *
+     * Wide ranges are counted by Meissel's formula without producing the primes, see {@link PrimeCounting},
+     * and ranges narrower than the two thirds power of their end are counted in the stream of their primes.
+     *
+     * @throws IllegalArgumentException if a wide range ends above {@link PrimeCounting#MAX_X}
+     */
+    public static long countPrimes(long start, long end) {
+        long from = Math.max(start, 2);
+        if (from > end) {
+            return 0;
+        }
+        long cubeRoot = PrimeCounting.cbrt(end);
+        if (end - from < cubeRoot * cubeRoot) {
+            return createPrimesFilteringStream(from, end).count();
+        }
+        PrimeCounting counting = new PrimeCounting(end);
+        return counting.pi(end) - counting.pi(from - 1);
+    }
+
+    /**
+     * Returns the n-th prime, the first one is 2.
+     *
+     * The primes up to an estimate just below the n-th prime are counted by Meissel's formula
+     * and the rest are taken from the ordered stream of the primes after it.
+     *
+     * @throws IllegalArgumentException if n is not positive or the n-th prime is above {@link PrimeCounting#MAX_X}
+     */
+    public static long nthPrime(long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("There is no prime with index " + n);
+        }
+        long estimate = Math.min(PrimeCounting.nthPrimeLowerEstimate(n), PrimeCounting.MAX_X);
+        long count = countPrimes(2, estimate);
+        while (count >= n) {
+            // never happens for the known primes, the estimate is only lowered to be safe
+            estimate /= 2;
+            count = countPrimes(2, estimate);
+        }
+        // the n-th prime is below n (log n + log log n) for n >= 6
+        double logN = Math.log(n);
+        long upperBound = n < 6 ? 13 : (long) Math.min(PrimeCounting.MAX_X, n * (logN + Math.log(logN)));
+        try (LongStream primes = createOrderedPrimesStream(estimate + 1, upperBound)) {
+            return primes.skip(n - count - 1)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("The prime with index " + n + " is too large"));
+        }
     }
 
     static class NumberUtils {
         public static boolean isPrime(long n) {
-            return n > 1 && LongStream
-                    .rangeClosed(2, n - 1)
-                    .noneMatch(divisor -> n % divisor == 0);
+            return MillerRabin.isPrime(n);
         }
     }
 }
\ No newline at end of file
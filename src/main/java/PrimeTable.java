@@ -0,0 +1,302 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A table of primes kept in a memory-mapped file, so that it is computed once and shared by every query
+ * and every run of the program.
+ *
+ * The file holds a mod-30 wheel bitmap: byte b has one bit for each of 30b + 1, 30b + 7, ..., 30b + 29,
+ * the only numbers of the block that are coprime to 30, and the bit is set if the number is prime.
+ * When a query goes past the end of the table, the table is extended by sieving only the new bytes,
+ * at least doubling its size. Opening an existing file only maps it.
+ *
+ * A single mapping is limited to 2 GB, so the table covers numbers up to about 6.4 * 10^10.
+ * Queries above {@link #MAX_LIMIT} are answered by {@link ParallelPrimes} without caching.
+ * Queries are lock-free and the table can be shared between threads.
+ */
+final class PrimeTable implements Closeable {
+    /**
+     * The numbers from it on are never cached, they are answered with {@link MillerRabin} or {@link ParallelPrimes}
+     */
+    static final long MAX_LIMIT = 30L * (Integer.MAX_VALUE - 16);
+
+    /**
+     * "PRIMES30" in ASCII
+     */
+    private static final long MAGIC = 0x5052494D45533330L;
+    /**
+     * The magic number followed by the number of sieved bytes
+     */
+    private static final int HEADER = 16;
+    private static final int MIN_EXTENSION = 1 << 16;
+    /**
+     * The number of bytes sieved or streamed by a single task
+     */
+    private static final int CHUNK = 1 << 16;
+
+    private static final int[] WHEEL = {1, 7, 11, 13, 17, 19, 23, 29};
+    /**
+     * The bit of a residue modulo 30, or -1 if the residue is not coprime to 30
+     */
+    private static final int[] BIT = new int[30];
+
+    static {
+        Arrays.fill(BIT, -1);
+        for (int i = 0; i < WHEEL.length; i++) {
+            BIT[WHEEL[i]] = i;
+        }
+    }
+
+    private final FileChannel channel;
+    private volatile Snapshot snapshot;
+
+    private PrimeTable(FileChannel channel, Snapshot snapshot) {
+        this.channel = channel;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Opens the table stored in a given file, or creates an empty one if the file does not exist
+     *
+     * @throws IOException if the file cannot be mapped or is not a prime table
+     */
+    static PrimeTable open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER) {
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+                map.putLong(0, MAGIC).putLong(8, 0);
+                map.force();
+                return new PrimeTable(channel, new Snapshot(map, 0));
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            long bytes = header.getLong(8);
+            if (header.getLong(0) != MAGIC || bytes < 0 || bytes > channel.size() - HEADER
+                    || bytes > Integer.MAX_VALUE - HEADER) {
+                throw new IOException("Not a prime table: " + file);
+            }
+            return new PrimeTable(channel,
+                    new Snapshot(channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + bytes), (int) bytes));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number below which the primes are already in the table
+     */
+    long limit() {
+        return 30L * snapshot.bytes;
+    }
+
+    /**
+     * Checks if a given number is prime
+     *
+     * @throws UncheckedIOException if the table has to be extended and the file cannot be written
+     */
+    boolean isPrime(long n) {
+        if (n < 7) {
+            return n == 2 || n == 3 || n == 5;
+        }
+        if (n >= MAX_LIMIT) {
+            return MillerRabin.isPrime(n);
+        }
+        int bit = BIT[(int) (n % 30)];
+        return bit >= 0 && (covering(n).map.get(HEADER + (int) (n / 30)) & (1 << bit)) != 0;
+    }
+
+    /**
+     * Returns the smallest prime greater than a given number
+     *
+     * @throws ArithmeticException  if there is no such prime of the long type
+     * @throws UncheckedIOException if the table has to be extended and the file cannot be written
+     */
+    long nextPrime(long n) {
+        if (n < 5) {
+            return n < 2 ? 2 : n < 3 ? 3 : 5;
+        }
+        long candidate = n + 1;
+        while (candidate > 0 && candidate < MAX_LIMIT) {
+            Snapshot covered = covering(candidate);
+            int from = (int) (candidate / 30);
+            int mask = -1 << lowestBitFrom((int) (candidate % 30));
+            for (int b = from; b < covered.bytes; b++, mask = -1) {
+                int bits = covered.map.get(HEADER + b) & mask & 0xFF;
+                if (bits != 0) {
+                    return 30L * b + WHEEL[Integer.numberOfTrailingZeros(bits)];
+                }
+            }
+            candidate = 30L * covered.bytes;
+        }
+        for (; candidate > 0; candidate++) {
+            if (MillerRabin.isPrime(candidate)) {
+                return candidate;
+            }
+        }
+        throw new ArithmeticException("There is no prime greater than " + n + " in the long range");
+    }
+
+    /**
+     * Returns a parallel stream of the primes in [start, end] in ascending order
+     *
+     * @throws UncheckedIOException if the table has to be extended and the file cannot be written
+     */
+    LongStream primes(long start, long end) {
+        if (end >= MAX_LIMIT) {
+            LongStream cached = start < MAX_LIMIT ? primes(start, MAX_LIMIT - 1) : LongStream.empty();
+            return LongStream.concat(cached,
+                    ParallelPrimes.createPrimesFilteringStream(Math.max(start, MAX_LIMIT), end)).parallel();
+        }
+        long from = Math.max(start, 2);
+        if (from > end) {
+            return LongStream.empty().parallel();
+        }
+        LongStream small = LongStream.of(2, 3, 5).filter(p -> p >= from && p <= end);
+        Snapshot covered = covering(end);
+        int firstByte = (int) (from / 30);
+        int lastByte = (int) (end / 30);
+        int chunks = (lastByte - firstByte) / CHUNK + 1;
+        LongStream cached = LongStream.range(0, chunks)
+                .parallel()
+                .flatMap(chunk -> {
+                    int low = firstByte + (int) chunk * CHUNK;
+                    return covered.primes(low, low + Math.min(CHUNK, lastByte + 1 - low), from, end);
+                });
+        return LongStream.concat(small, cached).parallel();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the index of the first wheel residue that is not less than a given one
+     */
+    private static int lowestBitFrom(int residue) {
+        for (int i = 0; i < WHEEL.length; i++) {
+            if (WHEEL[i] >= residue) {
+                return i;
+            }
+        }
+        return WHEEL.length;
+    }
+
+    /**
+     * Returns a snapshot of the table that contains a given number, extending the table if it does not
+     */
+    private Snapshot covering(long n) {
+        Snapshot current = snapshot;
+        return n < 30L * current.bytes ? current : extend(n);
+    }
+
+    private synchronized Snapshot extend(long n) {
+        Snapshot current = snapshot;
+        if (n < 30L * current.bytes) {
+            return current;
+        }
+        long required = n / 30 + 1;
+        int bytes = (int) Math.min(Integer.MAX_VALUE - HEADER,
+                Math.max(required, Math.max(2L * current.bytes, MIN_EXTENSION)));
+        try {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) bytes);
+            int[] basePrimes = SegmentedSieve.oddPrimesUpTo((int) SegmentedSieve.sqrt(30L * bytes));
+            int from = current.bytes;
+            IntStream.range(0, (bytes - from - 1) / CHUNK + 1)
+                    .parallel()
+                    .forEach(chunk -> {
+                        int low = from + chunk * CHUNK;
+                        sieve(map, low, low + Math.min(CHUNK, bytes - low), basePrimes);
+                    });
+            // the new bytes must reach the file before the header that covers them
+            map.force();
+            map.putLong(8, bytes);
+            map.force();
+            snapshot = new Snapshot(map, bytes);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sieves the bytes [low, high) of the table into the mapped buffer
+     */
+    private static void sieve(MappedByteBuffer map, int low, int high, int[] basePrimes) {
+        byte[] segment = new byte[high - low];
+        Arrays.fill(segment, (byte) 0xFF);
+        if (low == 0) {
+            // 1 is not a prime
+            segment[0] &= ~1;
+        }
+        long lowNumber = 30L * low;
+        long highNumber = 30L * high;
+        for (int p : basePrimes) {
+            if (p < 7) {
+                continue;
+            }
+            long square = (long) p * p;
+            if (square >= highNumber) {
+                break;
+            }
+            // the multiple pk is coprime to 30 exactly when k is, so only such k are visited
+            long k = Math.max(p, (lowNumber + p - 1) / p);
+            long block = k / 30;
+            int wheel = lowestBitFrom((int) (k % 30));
+            if (wheel == WHEEL.length) {
+                block++;
+                wheel = 0;
+            }
+            for (long multiple = p * (30 * block + WHEEL[wheel]); multiple < highNumber; ) {
+                int index = (int) (multiple / 30 - low);
+                segment[index] &= ~(1 << BIT[(int) (multiple % 30)]);
+                if (++wheel == WHEEL.length) {
+                    wheel = 0;
+                    block++;
+                }
+                multiple = p * (30 * block + WHEEL[wheel]);
+            }
+        }
+        // a duplicate has its own position, so the tasks can write their chunks concurrently
+        map.duplicate().position(HEADER + low).put(segment);
+    }
+
+    /**
+     * The mapped table with the number of bytes that are already sieved
+     */
+    private static final class Snapshot {
+        final MappedByteBuffer map;
+        final int bytes;
+
+        Snapshot(MappedByteBuffer map, int bytes) {
+            this.map = map;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Returns a stream of the primes in [from, end] whose bytes are in [low, high)
+         */
+        LongStream primes(int low, int high, long from, long end) {
+            LongStream.Builder builder = LongStream.builder();
+            for (int b = low; b < high; b++) {
+                for (int bits = map.get(HEADER + b) & 0xFF; bits != 0; bits &= bits - 1) {
+                    long prime = 30L * b + WHEEL[Integer.numberOfTrailingZeros(bits)];
+                    if (prime >= from && prime <= end) {
+                        builder.add(prime);
+                    }
+                }
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * The common part of the calculators over primitive values: the error flag, the builder mode
+ * and the rule of which exceptions thrown by a mapper break the chain.
+ */
+abstract class PrimitiveCalculator {
+    /**
+     * It determines if the calculator has an error
+     */
+    private boolean hasError;
+    /**
+     * It determines if eval updates this calculator in place instead of creating a new one
+     */
+    private final boolean mutable;
+
+    PrimitiveCalculator(boolean hasError, boolean mutable) {
+        this.hasError = hasError;
+        this.mutable = mutable;
+    }
+
+    /**
+     * It returns true if an error has occurred in the calculator
+     */
+    public boolean isBroken() {
+        return hasError;
+    }
+
+    /**
+     * It returns true if eval updates this calculator in place
+     */
+    final boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * It breaks the chain on an exception thrown by a mapper. As in Calculator.eval, only ArithmeticException
+     * and NullPointerException break it, any other exception is rethrown.
+     *
+     * @return true if this calculator is in the builder mode and now has the error itself,
+     * false if eval has to return the shared broken calculator
+     */
+    final boolean breakChain(RuntimeException e) {
+        if (!(e instanceof ArithmeticException) && !(e instanceof NullPointerException)) {
+            throw e;
+        }
+        if (mutable) {
+            hasError = true;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,183 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A segmented sieve of Eratosthenes that streams the primes of a range in bounded memory.
+ *
+ * Only odd numbers are sieved, one bit each, in segments of 256 KB, which roughly matches an L2 cache,
+ * so every segment covers 2^22 numbers. Segments are independent: they are sieved in parallel by the workers
+ * of the parallel stream and each of them lives only while its primes are consumed. The only other memory
+ * is the table of base primes up to the square root of the end of the range.
+ */
+final class SegmentedSieve {
+    /**
+     * The number of odd numbers in a segment, 2^21 bits = 256 KB
+     */
+    static final int SEGMENT_BITS = 1 << 21;
+    /**
+     * The ranges must end below this limit, so that the segment arithmetic never overflows
+     */
+    static final long MAX_END = 1L << 62;
+
+    private static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;
+
+    private SegmentedSieve() {
+    }
+
+    /**
+     * Returns a parallel stream of the primes in [start, end] in ascending order
+     */
+    static LongStream primes(long start, long end) {
+        if (end >= MAX_END) {
+            throw new IllegalArgumentException("End of the range is too large for the sieve: " + end);
+        }
+        long from = Math.max(start, 2);
+        if (from > end) {
+            return LongStream.empty().parallel();
+        }
+
+        LongStream two = from == 2 ? LongStream.of(2) : LongStream.empty();
+        long low = Math.max(from, 3) | 1;
+        if (low > end) {
+            return two.parallel();
+        }
+
+        int[] basePrimes = oddPrimesUpTo((int) sqrt(end));
+        long segments = (end - low) / SEGMENT_SPAN + 1;
+        LongStream odd = LongStream.range(0, segments)
+                .parallel()
+                .flatMap(segment -> {
+                    long segmentLow = low + segment * SEGMENT_SPAN;
+                    return sieve(segmentLow, Math.min(end, segmentLow + SEGMENT_SPAN - 1), basePrimes);
+                });
+        return LongStream.concat(two, odd).parallel();
+    }
+
+    /**
+     * Returns the odd primes up to the given limit
+     */
+    static int[] oddPrimesUpTo(int limit) {
+        if (limit < 3) {
+            return new int[0];
+        }
+        // bit i stands for 2i + 1
+        int bits = (limit - 1) / 2 + 1;
+        long[] composite = new long[(bits + 63) >>> 6];
+        int count = 0;
+        for (int i = 1; i < bits; i++) {
+            if ((composite[i >>> 6] & (1L << i)) == 0) {
+                count++;
+                long p = 2L * i + 1;
+                for (long j = p * p / 2; j < bits; j += p) {
+                    composite[(int) (j >>> 6)] |= 1L << j;
+                }
+            }
+        }
+        int[] primes = new int[count];
+        for (int i = 1, k = 0; i < bits; i++) {
+            if ((composite[i >>> 6] & (1L << i)) == 0) {
+                primes[k++] = 2 * i + 1;
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Returns the integer square root of a non-negative number
+     */
+    static long sqrt(long n) {
+        long root = (long) Math.sqrt((double) n);
+        while (root * root > n) {
+            root--;
+        }
+        while ((root + 1) * (root + 1) <= n) {
+            root++;
+        }
+        return root;
+    }
+
+    /**
+     * Sieves the odd numbers in [low, high], low is odd and greater than 1,
+     * and returns a stream that walks through the primes among them
+     */
+    private static LongStream sieve(long low, long high, int[] basePrimes) {
+        int bits = (int) ((high - low) / 2 + 1);
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(
+                new Primes(low, bits, sieveSegment(low, high, basePrimes)),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Sieves the odd numbers in [low, high], low is odd, and returns a bitmap
+     * in which bit i is set if low + 2i is composite. The bit of 1 is left clear
+     */
+    static long[] sieveSegment(long low, long high, int[] basePrimes) {
+        int bits = (int) ((high - low) / 2 + 1);
+        long[] composite = new long[(bits + 63) >>> 6];
+        for (int p : basePrimes) {
+            long square = (long) p * p;
+            if (square > high) {
+                break;
+            }
+            long first = square >= low ? square : (low + p - 1) / p * p;
+            if ((first & 1) == 0) {
+                first += p;
+            }
+            for (long j = (first - low) / 2; j < bits; j += p) {
+                composite[(int) (j >>> 6)] |= 1L << j;
+            }
+        }
+        return composite;
+    }
+
+    /**
+     * Iterates over the clear bits of a sieved segment
+     */
+    private static final class Primes implements PrimitiveIterator.OfLong {
+        private final long low;
+        private final int bits;
+        private final long[] composite;
+        private int next;
+
+        Primes(long low, int bits, long[] composite) {
+            this.low = low;
+            this.bits = bits;
+            this.composite = composite;
+            this.next = nextClearBit(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < bits;
+        }
+
+        @Override
+        public long nextLong() {
+            if (next >= bits) {
+                throw new NoSuchElementException();
+            }
+            long prime = low + 2L * next;
+            next = nextClearBit(next + 1);
+            return prime;
+        }
+
+        private int nextClearBit(int from) {
+            int word = from >>> 6;
+            if (word >= composite.length) {
+                return bits;
+            }
+            long clear = ~composite[word] & (-1L << from);
+            while (clear == 0) {
+                if (++word == composite.length) {
+                    return bits;
+                }
+                clear = ~composite[word];
+            }
+            return Math.min(bits, (word << 6) + Long.numberOfTrailingZeros(clear));
+        }
+    }
+}
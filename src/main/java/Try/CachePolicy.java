@@ -0,0 +1,100 @@
+package Try;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes how {@link Try#memoize} caches results: the maximum number of entries,
+ * how long Success and Failure results stay in the cache and how many independently locked stripes it has.
+ *
+ * Instances are immutable, every "with" method returns a new policy.
+ */
+final class CachePolicy {
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final long maximumSize;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final int stripes;
+
+    private CachePolicy(long maximumSize, long successTtlNanos, long failureTtlNanos, int stripes) {
+        this.maximumSize = maximumSize;
+        this.successTtlNanos = successTtlNanos;
+        this.failureTtlNanos = failureTtlNanos;
+        this.stripes = stripes;
+    }
+
+    /**
+     * Returns a policy that keeps at most the given number of entries.
+     * Successes never expire and failures are not cached until configured otherwise
+     */
+    public static CachePolicy maximumSize(long maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        return new CachePolicy(maximumSize, Long.MAX_VALUE, 0, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Returns a policy in which Success results expire after the given time
+     */
+    public CachePolicy withSuccessTtl(Duration ttl) {
+        return new CachePolicy(maximumSize, toNanos(ttl), failureTtlNanos, stripes);
+    }
+
+    /**
+     * Returns a policy in which Failure results are cached for the given time.
+     * A zero duration disables negative caching
+     */
+    public CachePolicy withFailureTtl(Duration ttl) {
+        return new CachePolicy(maximumSize, successTtlNanos, toNanos(ttl), stripes);
+    }
+
+    /**
+     * Returns a policy with the given number of stripes, each of them is locked independently
+     */
+    public CachePolicy withStripes(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Number of stripes must be positive: " + stripes);
+        }
+        return new CachePolicy(maximumSize, successTtlNanos, failureTtlNanos, stripes);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getSuccessTtlNanos() {
+        return successTtlNanos;
+    }
+
+    public long getFailureTtlNanos() {
+        return failureTtlNanos;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    private static long toNanos(Duration ttl) {
+        Objects.requireNonNull(ttl);
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("TTL must not be negative: " + ttl);
+        }
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachePolicy[maximumSize=" + maximumSize + ", successTtl=" + format(successTtlNanos)
+                + ", failureTtl=" + format(failureTtlNanos) + ", stripes=" + stripes + "]";
+    }
+
+    private static String format(long ttlNanos) {
+        return ttlNanos == Long.MAX_VALUE ? "unbounded" : Duration.ofNanos(ttlNanos).toString();
+    }
+}
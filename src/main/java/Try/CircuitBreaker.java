@@ -0,0 +1,194 @@
+package Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Guards an unreliable operation executed with {@link Try#of(ThrowableOperation, CircuitBreaker)}.
+ *
+ * While the circuit is CLOSED the outcomes of the last windowSize calls are kept in a ring. Once the window
+ * is full and the ratio of failures in it reaches the threshold, the circuit becomes OPEN and every call
+ * fails fast with the same preallocated Failure holding a stackless {@link CircuitBreakerOpenException},
+ * without executing the operation. After the open duration the next call is let through as a trial:
+ * if it succeeds the circuit is CLOSED again with an empty window, otherwise it stays OPEN for another period.
+ *
+ * The state is kept in atomic variables only, a call in the CLOSED state costs a volatile read before
+ * the operation and a few atomic updates after it.
+ */
+final class CircuitBreaker {
+    private static final long CLOSED = -1;
+    private static final long HALF_OPEN = -2;
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    /**
+     * The state of a circuit
+     */
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final long startTime = System.nanoTime();
+
+    /**
+     * CLOSED, HALF_OPEN, or the time the circuit was opened at in nanoseconds since startTime
+     */
+    private final AtomicLong state = new AtomicLong(CLOSED);
+
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final Failure<?> rejected;
+
+    private CircuitBreaker(String name, double failureRateThreshold, int windowSize, long openDurationNanos) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.window = new AtomicIntegerArray(windowSize);
+        this.rejected = new Failure<>(new CircuitBreakerOpenException(name));
+    }
+
+    /**
+     * Returns a closed circuit breaker that opens once at least the given fraction (0..1] of the last
+     * windowSize calls has failed and stays open for the given duration
+     */
+    static CircuitBreaker of(String name, double failureRateThreshold, int windowSize, Duration openDuration) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(openDuration);
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("Open duration must not be negative: " + openDuration);
+        }
+        long openDurationNanos;
+        try {
+            openDurationNanos = openDuration.toNanos();
+        } catch (ArithmeticException e) {
+            openDurationNanos = Long.MAX_VALUE;
+        }
+        return new CircuitBreaker(name, failureRateThreshold, windowSize, openDurationNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        long current = state.get();
+        return current == CLOSED ? State.CLOSED : current == HALF_OPEN ? State.HALF_OPEN : State.OPEN;
+    }
+
+    /**
+     * Returns the ratio of failures among the calls in the window, or 0 if there are none
+     */
+    public double getFailureRate() {
+        int total = calls.get();
+        return total == 0 ? 0 : (double) failures.get() / total;
+    }
+
+    /**
+     * Executes the given operation if the circuit lets it through
+     */
+    <T> Try<T> execute(ThrowableOperation<T> operation) {
+        Objects.requireNonNull(operation);
+
+        long current = state.get();
+        if (current == CLOSED) {
+            Try<T> result = Try.of(operation);
+            record(result.isSuccess());
+            return result;
+        }
+        if (current == HALF_OPEN || now() - current < openDurationNanos || !state.compareAndSet(current, HALF_OPEN)) {
+            return rejected();
+        }
+
+        // this call has won the transition to HALF_OPEN and is the only trial
+        Try<T> result = Try.of(operation);
+        if (result.isSuccess()) {
+            clearWindow();
+            state.set(CLOSED);
+        } else {
+            state.set(now());
+        }
+        return result;
+    }
+
+    private void record(boolean success) {
+        int slot = (int) (cursor.getAndIncrement() % window.length());
+        int outcome = success ? SUCCESS : FAILURE;
+        int previous = window.getAndSet(slot, outcome);
+        if (previous == EMPTY) {
+            calls.incrementAndGet();
+        }
+        if (previous != outcome) {
+            if (success) {
+                failures.decrementAndGet();
+            } else {
+                failures.incrementAndGet();
+            }
+        }
+        if (!success && calls.get() >= window.length()
+                && failures.get() >= failureRateThreshold * window.length()) {
+            state.compareAndSet(CLOSED, now());
+        }
+    }
+
+    /**
+     * Empties the window. The counters are only changed together with the slots they describe,
+     * so they stay consistent with the window even if calls are recorded concurrently
+     */
+    private void clearWindow() {
+        for (int i = 0; i < window.length(); i++) {
+            int previous = window.getAndSet(i, EMPTY);
+            if (previous != EMPTY) {
+                calls.decrementAndGet();
+            }
+            if (previous == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Try<T> rejected() {
+        return (Try<T>) rejected;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + name + ", state=" + getState() + ", failureRate=" + getFailureRate() + "]";
+    }
+}
+
+/**
+ * The exception of the Failure returned by a call rejected by an open {@link CircuitBreaker}.
+ * A single instance is shared by all the rejected calls of a breaker, so it has neither a stack trace
+ * nor suppressed exceptions
+ */
+class CircuitBreakerOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    CircuitBreakerOpenException(String name) {
+        super("Circuit breaker " + name + " is open", null, false, false);
+    }
+}
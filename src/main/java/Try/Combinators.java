@@ -0,0 +1,284 @@
+package Try;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements the concurrent combinators of {@link Try}.
+ *
+ * Every operation runs as a separate attempt on the given executor. The caller thread waits for the attempts
+ * to complete and cancels (interrupts) the ones that are no longer needed before returning.
+ */
+final class Combinators {
+    private Combinators() {
+    }
+
+    static <T> Try<List<T>> all(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                                Hedging hedging) {
+        Objects.requireNonNull(operations);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(hedging);
+
+        int count = operations.size();
+        Attempts<T> attempts = new Attempts<>(operations, executor);
+        Object[] results = new Object[count];
+        boolean[] done = new boolean[count];
+        try {
+            while (attempts.hasMore()) {
+                attempts.launch();
+            }
+            // every operation is hedged at most once, the delay counts from the launch of all of them
+            boolean hedged = hedging.launchesAllAtOnce();
+            long delay = hedged ? 0 : hedging.delayNanos();
+            long launchedAt = System.nanoTime();
+
+            for (int remaining = count; remaining > 0; ) {
+                long timeout = hedged ? Long.MAX_VALUE : Math.max(0, delay - (System.nanoTime() - launchedAt));
+                Attempt<T> completed = attempts.next(timeout);
+                if (completed == null) {
+                    // no result within the hedging delay, back up the operations that are still running
+                    for (int i = 0; i < count; i++) {
+                        if (!done[i]) {
+                            attempts.launchBackup(i);
+                        }
+                    }
+                    hedged = true;
+                    continue;
+                }
+                if (done[completed.index]) {
+                    // the other attempt of the same operation has already completed
+                    continue;
+                }
+
+                Try<T> result = completed.result();
+                if (result instanceof Failure) {
+                    return failure(result);
+                }
+                hedging.record(System.nanoTime() - completed.launchedAt);
+                attempts.cancelOthers(completed);
+                results[completed.index] = result.getUnchecked();
+                done[completed.index] = true;
+                remaining--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } finally {
+            attempts.cancelAll();
+        }
+        @SuppressWarnings("unchecked")
+        List<T> values = (List<T>) Arrays.asList(results);
+        return Success.of(Collections.unmodifiableList(values));
+    }
+
+    static <T> Try<T> race(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                           Hedging hedging) {
+        return first(operations, executor, hedging, false);
+    }
+
+    static <T> Try<T> firstSuccess(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                                   Hedging hedging) {
+        return first(operations, executor, hedging, true);
+    }
+
+    /**
+     * Returns the first completed attempt, or the first successful one if successOnly is true.
+     * Attempts are launched according to the hedging policy
+     */
+    private static <T> Try<T> first(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                                    Hedging hedging, boolean successOnly) {
+        Objects.requireNonNull(operations);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(hedging);
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+
+        Attempts<T> attempts = new Attempts<>(operations, executor);
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            Attempt<T> last = attempts.launch();
+            if (hedging.launchesAllAtOnce()) {
+                while (attempts.hasMore()) {
+                    last = attempts.launch();
+                }
+            }
+            // the delay is taken once per launched attempt and counts from its launch
+            long delay = hedging.delayNanos();
+
+            while (true) {
+                long timeout = attempts.hasMore()
+                        ? Math.max(0, delay - (System.nanoTime() - last.launchedAt))
+                        : Long.MAX_VALUE;
+                Attempt<T> completed = attempts.next(timeout);
+                if (completed == null) {
+                    // no result within the hedging delay
+                    last = attempts.launch();
+                    delay = hedging.delayNanos();
+                    continue;
+                }
+
+                Try<T> result = completed.result();
+                if (!successOnly || result.isSuccess()) {
+                    if (result.isSuccess()) {
+                        hedging.record(System.nanoTime() - completed.launchedAt);
+                    }
+                    return result;
+                }
+
+                failures.add(((Failure<T>) result).cause());
+                if (failures.size() == operations.size()) {
+                    return new Failure<>(new TraversalException(failures));
+                }
+                if (attempts.running() == 0) {
+                    // nothing left to wait for, launch the next attempt right away
+                    last = attempts.launch();
+                    delay = hedging.delayNanos();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } finally {
+            attempts.cancelAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Try<U> failure(Try<?> failure) {
+        return (Try<U>) failure;
+    }
+
+    /**
+     * The attempts of a single combinator call
+     */
+    private static final class Attempts<T> {
+        private final List<? extends ThrowableOperation<? extends T>> operations;
+        private final Executor executor;
+        private final List<Attempt<T>> launched = new ArrayList<>();
+        private final BlockingQueue<Attempt<T>> completed = new LinkedBlockingQueue<>();
+        /**
+         * The number of operations launched for the first time
+         */
+        private int started;
+        private int taken;
+
+        Attempts(List<? extends ThrowableOperation<? extends T>> operations, Executor executor) {
+            this.operations = operations;
+            this.executor = executor;
+        }
+
+        boolean hasMore() {
+            return started < operations.size();
+        }
+
+        int running() {
+            return launched.size() - taken;
+        }
+
+        /**
+         * Launches the next operation that has not been launched yet
+         */
+        Attempt<T> launch() {
+            int index = started++;
+            return launch(index);
+        }
+
+        /**
+         * Launches one more attempt of an operation that has already been launched
+         */
+        Attempt<T> launchBackup(int index) {
+            return launch(index);
+        }
+
+        private Attempt<T> launch(int index) {
+            Attempt<T> attempt = new Attempt<>(index, operations.get(index), completed);
+            launched.add(attempt);
+            try {
+                executor.execute(attempt);
+            } catch (RuntimeException e) {
+                attempt.reject(e);
+            }
+            return attempt;
+        }
+
+        /**
+         * Waits at most the given time for the next completed attempt, returns null on timeout
+         */
+        Attempt<T> next(long timeoutNanos) throws InterruptedException {
+            Attempt<T> attempt = timeoutNanos == Long.MAX_VALUE
+                    ? completed.take()
+                    : completed.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+            if (attempt != null) {
+                taken++;
+            }
+            return attempt;
+        }
+
+        /**
+         * Cancels the other attempts of the same operation as the given one
+         */
+        void cancelOthers(Attempt<T> winner) {
+            for (Attempt<T> attempt : launched) {
+                if (attempt.index == winner.index && attempt != winner) {
+                    attempt.cancel(true);
+                }
+            }
+        }
+
+        void cancelAll() {
+            for (Attempt<T> attempt : launched) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A single operation running on the executor that reports its completion to the shared queue
+     */
+    private static final class Attempt<T> extends FutureTask<Try<T>> {
+        private final int index;
+        private final BlockingQueue<Attempt<T>> completed;
+        private final long launchedAt = System.nanoTime();
+
+        Attempt(int index, ThrowableOperation<? extends T> operation, BlockingQueue<Attempt<T>> completed) {
+            super(() -> Try.of(operation::execute));
+            this.index = index;
+            this.completed = completed;
+        }
+
+        void reject(Throwable cause) {
+            setException(cause);
+        }
+
+        @Override
+        protected void done() {
+            if (!isCancelled()) {
+                completed.add(this);
+            }
+        }
+
+        /**
+         * Returns the result of a completed attempt
+         */
+        Try<T> result() {
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                return new Failure<>(e.getCause());
+            } catch (InterruptedException | CancellationException e) {
+                return new Failure<>(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Represents a point in time after which the remaining steps of a Try chain are not executed.
+ *
+ * Pass the same Deadline to {@link Try#of(ThrowableOperation, Deadline)} and to the map/flatMap overloads
+ * that accept it: every step runs on the caller thread with the remaining budget, a step that is still running
+ * when the deadline passes is interrupted, and once the budget is gone the following steps are skipped
+ * and a Failure that holds a TimeoutException is returned.
+ *
+ * Cancellation is cooperative: operations that ignore interruption run to completion,
+ * but their result is still returned as it has already been computed.
+ */
+final class Deadline {
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Returns a deadline that passes after the given timeout
+     */
+    static Deadline after(Duration timeout) {
+        Objects.requireNonNull(timeout);
+        long nanos;
+        try {
+            nanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            nanos = Long.MAX_VALUE;
+        }
+        long now = System.nanoTime();
+        // saturate on overflow
+        return new Deadline(nanos > Long.MAX_VALUE - Math.max(now, 0) ? Long.MAX_VALUE : now + nanos);
+    }
+
+    /**
+     * Returns the time left in nanoseconds, zero or negative if the deadline has passed
+     */
+    long remainingNanos() {
+        if (deadlineNanos == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Returns true if the deadline has passed
+     */
+    boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Executes the given operation on the current thread, interrupting it if it is still running
+     * when the deadline passes. If the deadline has already passed the operation is not executed
+     */
+    <T> Try<T> execute(ThrowableOperation<T> operation) {
+        Objects.requireNonNull(operation);
+
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            return new Failure<>(timeoutException(null));
+        }
+
+        Interruption interruption = new Interruption(Thread.currentThread());
+        HashedWheelTimer.SHARED.schedule(interruption, remaining);
+
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = operation.execute();
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        if (interruption.cancel()) {
+            return failure == null ? Success.of(value) : new Failure<>(failure);
+        }
+
+        // the timer has won the race, wait for its interrupt to land and clear it
+        while (!interruption.delivered) {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+        if (interruption.wasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failure == null ? Success.of(value) : new Failure<>(timeoutException(failure));
+    }
+
+    private static TimeoutException timeoutException(Throwable cause) {
+        TimeoutException exception = StackTracePolicy.global().captureStackTrace()
+                ? new TimeoutException("Deadline exceeded")
+                : new StacklessTimeoutException();
+        if (cause != null) {
+            exception.initCause(cause);
+        }
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + Duration.ofNanos(Math.max(0, remainingNanos())) + "]";
+    }
+
+    /**
+     * Interrupts the thread executing a step when the deadline passes
+     */
+    private static final class Interruption extends HashedWheelTimer.Task {
+        private final Thread thread;
+        /**
+         * True if the thread had been interrupted before the step started
+         */
+        private final boolean wasInterrupted;
+        private volatile boolean delivered;
+
+        Interruption(Thread thread) {
+            this.thread = thread;
+            this.wasInterrupted = thread.isInterrupted();
+        }
+
+        @Override
+        void expire() {
+            try {
+                thread.interrupt();
+            } finally {
+                delivered = true;
+            }
+        }
+    }
+
+    /**
+     * TimeoutException that never fills in its stack trace
+     */
+    private static final class StacklessTimeoutException extends TimeoutException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessTimeoutException() {
+            super("Deadline exceeded");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return TimeoutException.class.getName() + ": " + getMessage();
+        }
+    }
+}
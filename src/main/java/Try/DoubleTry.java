@@ -0,0 +1,286 @@
+package Try;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Represents an operation that produces a double and may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableDoubleOperation {
+    double execute() throws Throwable;
+}
+
+/**
+ * Represents an operation on a single double that produces a double and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableDoubleUnaryOperator {
+    double applyAsDouble(double operand) throws Throwable;
+}
+
+/**
+ * Represents a Function that accepts a double and returns R and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableDoubleFunction<R> {
+    R apply(double value) throws Throwable;
+}
+
+/**
+ * Represents an action on a double that may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableDoubleConsumer<E extends Throwable> {
+    void accept(double value) throws E;
+}
+
+/**
+ * A primitive specialization of {@link Try} for double that never boxes the resulting value.
+ * It is either a success that holds a double or a failure that holds a Throwable.
+ */
+final class DoubleTry {
+    /**
+     * It represents a filtered out value when stack traces are not captured
+     */
+    private static final DoubleTry NO_SUCH_ELEMENT = new DoubleTry(0, StackTracePolicy.NO_SUCH_ELEMENT);
+
+    private final double value;
+    /**
+     * The exception this failed with, or null if this is a success
+     */
+    private final Throwable e;
+
+    private DoubleTry(double value, Throwable e) {
+        this.value = value;
+        this.e = e;
+    }
+
+    /**
+     * Executes the given operation and returns the result wrapped in a success or failure
+     */
+    public static DoubleTry of(ThrowableDoubleOperation operation) {
+        Objects.requireNonNull(operation);
+
+        try {
+            return new DoubleTry(operation.execute(), null);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+    }
+
+    /**
+     * Returns a success that holds the given value
+     */
+    public static DoubleTry success(double value) {
+        return new DoubleTry(value, null);
+    }
+
+    /**
+     * Returns a failure that holds the given exception
+     */
+    public static DoubleTry failure(Throwable e) {
+        return new DoubleTry(0, Objects.requireNonNull(e));
+    }
+
+    /**
+     * Returns true if the original operation succeeded, otherwise returns false
+     */
+    public boolean isSuccess() {
+        return e == null;
+    }
+
+    /**
+     * Returns the resulting value if this is a success, otherwise throws the original exception
+     */
+    public double getAsDouble() throws Throwable {
+        if (e != null) {
+            throw e;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws the original exception wrapped in a RuntimeException
+     *
+     * @throws RuntimeException that wraps the original exception
+     */
+    public double getUnchecked() {
+        if (e != null) {
+            throw StackTracePolicy.global().captureStackTrace()
+                    ? new RuntimeException(e)
+                    : StackTracePolicy.stacklessUnchecked(e);
+        }
+        return value;
+    }
+
+    /**
+     * Converts this to a non-empty OptionalDouble if this is a success, otherwise returns an empty OptionalDouble
+     */
+    public OptionalDouble toOptional() {
+        return e == null ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    /**
+     * Returns the given default value if this is a failure, otherwise returns the resulting value
+     */
+    public double getOrElse(double defaultValue) {
+        return e == null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the resulting value if it is a success,
+     * otherwise returns the result produced by the given supplier
+     */
+    public double getOrElseSupply(DoubleSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        return e == null ? value : supplier.getAsDouble();
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws an exception produced by the exception supplier
+     *
+     * @throws Throwable produced by the exception supplier
+     */
+    public <X extends Throwable> double getOrElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (e != null) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given action to the resulting value if it is a success, otherwise does nothing
+     *
+     * @return the current DoubleTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> DoubleTry onSuccess(ThrowableDoubleConsumer<E> action) throws E {
+        if (e == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Applies the given action to the exception if it is a failure, otherwise does nothing
+     *
+     * @return the current DoubleTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> DoubleTry onFailure(ThrowableConsumer<Throwable, E> action) throws E {
+        if (e != null) {
+            action.accept(e);
+        }
+        return this;
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this DoubleTry
+     */
+    public DoubleTry filter(DoublePredicate predicate) {
+        return filter(predicate, StackTracePolicy.global());
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this DoubleTry.
+     * The NoSuchElementException captures its stack trace according to the given policy
+     */
+    public DoubleTry filter(DoublePredicate predicate, StackTracePolicy policy) {
+        Objects.requireNonNull(predicate);
+
+        if (e != null || predicate.test(value)) {
+            return this;
+        } else if (policy.captureStackTrace()) {
+            return new DoubleTry(0, new NoSuchElementException());
+        } else {
+            return NO_SUCH_ELEMENT;
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * If that function fails a failure is returned
+     */
+    public DoubleTry map(ThrowableDoubleUnaryOperator function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return new DoubleTry(function.applyAsDouble(value), null);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * The DoubleTry returned by the function is passed through as is
+     */
+    public DoubleTry flatMap(ThrowableDoubleFunction<DoubleTry> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return Objects.requireNonNull(function.apply(value));
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success and wraps the result into a Try,
+     * otherwise returns a Failure that holds the same exception
+     */
+    public <R> Try<R> mapToObj(ThrowableDoubleFunction<? extends R> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return new Failure<>(e);
+        }
+        try {
+            return Success.of(function.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    /**
+     * Converts this into a Try that holds a boxed value
+     */
+    public Try<Double> boxed() {
+        return e == null ? Success.of(value) : new Failure<>(e);
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if it is a failure,
+     * otherwise returns this success.
+     *
+     * @return a new DoubleTry in the case of failure, or the current success
+     */
+    public DoubleTry recover(ThrowableToDoubleFunction<? super Throwable> function) {
+        Objects.requireNonNull(function);
+        if (e == null) {
+            return this;
+        }
+        try {
+            return new DoubleTry(function.applyAsDouble(e), null);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return e == null ? "DoubleTry.Success[" + value + "]" : "DoubleTry.Failure[" + e + "]";
+    }
+}
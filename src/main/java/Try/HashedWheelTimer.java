@@ -0,0 +1,155 @@
+package Try;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A timer that keeps scheduled tasks in a ring of buckets, one bucket per tick.
+ *
+ * Scheduling and cancelling are lock-free and cost a single queue insertion and a CAS respectively,
+ * which suits a very large number of short timeouts that are almost always cancelled before they expire.
+ * Cancelled tasks are dropped by the worker thread without ever being placed into the wheel.
+ * The precision is one tick.
+ */
+final class HashedWheelTimer {
+    /**
+     * The timer shared by all the deadlines, with a 1 ms tick
+     */
+    static final HashedWheelTimer SHARED = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 512);
+
+    /**
+     * Longer delays are clamped so that the deadline arithmetic never overflows
+     */
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    private final long tickNanos;
+    private final ArrayDeque<Task>[] wheel;
+    private final int mask;
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final long startTime;
+
+    HashedWheelTimer(long tickNanos, int ticksPerWheel) {
+        if (tickNanos <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("Tick must be positive and ticks per wheel must be a power of two");
+        }
+        this.tickNanos = tickNanos;
+        @SuppressWarnings("unchecked")
+        ArrayDeque<Task>[] wheel = (ArrayDeque<Task>[]) new ArrayDeque<?>[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.wheel = wheel;
+        this.mask = ticksPerWheel - 1;
+        this.startTime = System.nanoTime();
+
+        Thread worker = new Thread(this::work, "try-wheel-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules the given task to expire after the given delay
+     */
+    void schedule(Task task, long delayNanos) {
+        task.deadline = System.nanoTime() - startTime + Math.min(Math.max(0, delayNanos), MAX_DELAY_NANOS);
+        pending.add(task);
+    }
+
+    private void work() {
+        long tick = 0;
+        while (true) {
+            waitFor(tick);
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Sleeps until the end of the given tick
+     */
+    private void waitFor(long tick) {
+        long end = tickNanos * (tick + 1);
+        long sleep;
+        while ((sleep = end - (System.nanoTime() - startTime)) > 0) {
+            LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    private void transferPending(long tick) {
+        Task task;
+        while ((task = pending.poll()) != null) {
+            if (task.state != Task.PENDING) {
+                continue;
+            }
+            long expirationTick = task.deadline / tickNanos;
+            task.remainingRounds = (expirationTick - tick) / wheel.length;
+            // tasks that should have already expired go to the current bucket
+            wheel[(int) (Math.max(expirationTick, tick) & mask)].add(task);
+        }
+    }
+
+    private void expire(ArrayDeque<Task> bucket) {
+        Iterator<Task> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            if (task.state != Task.PENDING) {
+                iterator.remove();
+            } else if (task.remainingRounds <= 0) {
+                iterator.remove();
+                if (task.markExpired()) {
+                    try {
+                        task.expire();
+                    } catch (Throwable t) {
+                        // a failing task must not stop the timer
+                    }
+                }
+            } else {
+                task.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * A task that runs on the timer thread when it expires, unless it has been cancelled before
+     */
+    abstract static class Task {
+        static final int PENDING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Task> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+        private volatile int state;
+        /**
+         * Nanoseconds since the start of the timer, written before the task is published
+         */
+        private long deadline;
+        /**
+         * Full turns of the wheel left, accessed by the worker thread only
+         */
+        private long remainingRounds;
+
+        /**
+         * Runs on the timer thread when the task expires
+         */
+        abstract void expire();
+
+        /**
+         * Cancels the task. Returns false if it has already expired
+         */
+        boolean cancel() {
+            return STATE.compareAndSet(this, PENDING, CANCELLED) || state == CANCELLED;
+        }
+
+        private boolean markExpired() {
+            return STATE.compareAndSet(this, PENDING, EXPIRED);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package Try;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Determines when {@link Try#race} and {@link Try#firstSuccess} launch the next attempt
+ * and when {@link Try#all} launches a backup attempt of an operation that is still running.
+ *
+ * NONE launches all the attempts at once and no backups. A fixed delay launches the next attempt
+ * if there is no result after that delay. A percentile delay tracks the latency of the winning attempts and launches the next attempt
+ * once the current one has been running longer than the given percentile of them, so backup requests
+ * are only sent for the slow tail.
+ */
+final class Hedging {
+    /**
+     * Launches all the attempts at once
+     */
+    static final Hedging NONE = new Hedging(0, 0, null);
+
+    /**
+     * The number of observed latencies required before the percentile is trusted
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    private final long fixedDelayNanos;
+    private final double quantile;
+    private final LatencyHistogram latencies;
+
+    private Hedging(long fixedDelayNanos, double quantile, LatencyHistogram latencies) {
+        this.fixedDelayNanos = fixedDelayNanos;
+        this.quantile = quantile;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Launches the next attempt if there is no result after the given delay
+     */
+    static Hedging after(Duration delay) {
+        Objects.requireNonNull(delay);
+        if (delay.isNegative() || delay.isZero()) {
+            return NONE;
+        }
+        return new Hedging(delay.toNanos(), 0, null);
+    }
+
+    /**
+     * Launches the next attempt once the current one has been running longer than the given percentile (0..1)
+     * of the previously observed latencies. Until enough latencies have been observed the initial delay is used.
+     * The same instance should be reused by the calls that target the same sources
+     */
+    static Hedging atPercentile(double quantile, Duration initialDelay) {
+        if (!(quantile > 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be in (0, 1]: " + quantile);
+        }
+        return new Hedging(after(initialDelay).fixedDelayNanos, quantile, new LatencyHistogram());
+    }
+
+    /**
+     * Returns true if all the attempts are launched at once
+     */
+    boolean launchesAllAtOnce() {
+        return fixedDelayNanos == 0 && latencies == null;
+    }
+
+    /**
+     * Returns the delay before the next attempt is launched
+     */
+    long delayNanos() {
+        if (latencies != null && latencies.getCount() >= MIN_SAMPLES) {
+            return Math.max(1, latencies.percentile(quantile));
+        }
+        return fixedDelayNanos;
+    }
+
+    /**
+     * Records the latency of a winning attempt
+     */
+    void record(long latencyNanos) {
+        if (latencies != null) {
+            latencies.record(latencyNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (launchesAllAtOnce()) {
+            return "Hedging[NONE]";
+        }
+        return latencies == null
+                ? "Hedging[after=" + Duration.ofNanos(fixedDelayNanos) + "]"
+                : "Hedging[p" + quantile * 100 + ", current=" + Duration.ofNanos(delayNanos()) + "]";
+    }
+}
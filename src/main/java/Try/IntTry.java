@@ -0,0 +1,300 @@
+package Try;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Represents an operation that produces an int and may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableIntOperation {
+    int execute() throws Throwable;
+}
+
+/**
+ * Represents an operation on a single int that produces an int and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableIntUnaryOperator {
+    int applyAsInt(int operand) throws Throwable;
+}
+
+/**
+ * Represents a Function that accepts an int and returns R and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableIntFunction<R> {
+    R apply(int value) throws Throwable;
+}
+
+/**
+ * Represents an action on an int that may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableIntConsumer<E extends Throwable> {
+    void accept(int value) throws E;
+}
+
+/**
+ * A primitive specialization of {@link Try} for int that never boxes the resulting value.
+ * It is either a success that holds an int or a failure that holds a Throwable.
+ */
+final class IntTry {
+    /**
+     * It represents a filtered out value when stack traces are not captured
+     */
+    private static final IntTry NO_SUCH_ELEMENT = new IntTry(0, StackTracePolicy.NO_SUCH_ELEMENT);
+
+    private final int value;
+    /**
+     * The exception this failed with, or null if this is a success
+     */
+    private final Throwable e;
+
+    private IntTry(int value, Throwable e) {
+        this.value = value;
+        this.e = e;
+    }
+
+    /**
+     * Executes the given operation and returns the result wrapped in a success or failure
+     */
+    public static IntTry of(ThrowableIntOperation operation) {
+        Objects.requireNonNull(operation);
+
+        try {
+            return new IntTry(operation.execute(), null);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+    }
+
+    /**
+     * Returns a success that holds the given value
+     */
+    public static IntTry success(int value) {
+        return new IntTry(value, null);
+    }
+
+    /**
+     * Returns a failure that holds the given exception
+     */
+    public static IntTry failure(Throwable e) {
+        return new IntTry(0, Objects.requireNonNull(e));
+    }
+
+    /**
+     * Returns true if the original operation succeeded, otherwise returns false
+     */
+    public boolean isSuccess() {
+        return e == null;
+    }
+
+    /**
+     * Returns the resulting value if this is a success, otherwise throws the original exception
+     */
+    public int getAsInt() throws Throwable {
+        if (e != null) {
+            throw e;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws the original exception wrapped in a RuntimeException
+     *
+     * @throws RuntimeException that wraps the original exception
+     */
+    public int getUnchecked() {
+        if (e != null) {
+            throw StackTracePolicy.global().captureStackTrace()
+                    ? new RuntimeException(e)
+                    : StackTracePolicy.stacklessUnchecked(e);
+        }
+        return value;
+    }
+
+    /**
+     * Converts this to a non-empty OptionalInt if this is a success, otherwise returns an empty OptionalInt
+     */
+    public OptionalInt toOptional() {
+        return e == null ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the given default value if this is a failure, otherwise returns the resulting value
+     */
+    public int getOrElse(int defaultValue) {
+        return e == null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the resulting value if it is a success,
+     * otherwise returns the result produced by the given supplier
+     */
+    public int getOrElseSupply(IntSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        return e == null ? value : supplier.getAsInt();
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws an exception produced by the exception supplier
+     *
+     * @throws Throwable produced by the exception supplier
+     */
+    public <X extends Throwable> int getOrElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (e != null) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given action to the resulting value if it is a success, otherwise does nothing
+     *
+     * @return the current IntTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> IntTry onSuccess(ThrowableIntConsumer<E> action) throws E {
+        if (e == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Applies the given action to the exception if it is a failure, otherwise does nothing
+     *
+     * @return the current IntTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> IntTry onFailure(ThrowableConsumer<Throwable, E> action) throws E {
+        if (e != null) {
+            action.accept(e);
+        }
+        return this;
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this IntTry
+     */
+    public IntTry filter(IntPredicate predicate) {
+        return filter(predicate, StackTracePolicy.global());
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this IntTry.
+     * The NoSuchElementException captures its stack trace according to the given policy
+     */
+    public IntTry filter(IntPredicate predicate, StackTracePolicy policy) {
+        Objects.requireNonNull(predicate);
+
+        if (e != null || predicate.test(value)) {
+            return this;
+        } else if (policy.captureStackTrace()) {
+            return new IntTry(0, new NoSuchElementException());
+        } else {
+            return NO_SUCH_ELEMENT;
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * If that function fails a failure is returned
+     */
+    public IntTry map(ThrowableIntUnaryOperator function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return new IntTry(function.applyAsInt(value), null);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * The IntTry returned by the function is passed through as is
+     */
+    public IntTry flatMap(ThrowableIntFunction<IntTry> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return Objects.requireNonNull(function.apply(value));
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success and wraps the result into a Try,
+     * otherwise returns a Failure that holds the same exception
+     */
+    public <R> Try<R> mapToObj(ThrowableIntFunction<? extends R> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return new Failure<>(e);
+        }
+        try {
+            return Success.of(function.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    /**
+     * Converts this into a LongTry without boxing
+     */
+    public LongTry asLongTry() {
+        return e == null ? LongTry.success(value) : LongTry.failure(e);
+    }
+
+    /**
+     * Converts this into a DoubleTry without boxing
+     */
+    public DoubleTry asDoubleTry() {
+        return e == null ? DoubleTry.success(value) : DoubleTry.failure(e);
+    }
+
+    /**
+     * Converts this into a Try that holds a boxed value
+     */
+    public Try<Integer> boxed() {
+        return e == null ? Success.of(value) : new Failure<>(e);
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if it is a failure,
+     * otherwise returns this success.
+     *
+     * @return a new IntTry in the case of failure, or the current success
+     */
+    public IntTry recover(ThrowableToIntFunction<? super Throwable> function) {
+        Objects.requireNonNull(function);
+        if (e == null) {
+            return this;
+        }
+        try {
+            return new IntTry(function.applyAsInt(e), null);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return e == null ? "IntTry.Success[" + value + "]" : "IntTry.Failure[" + e + "]";
+    }
+}
@@ -0,0 +1,326 @@
+package Try;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Represents a deferred Try pipeline created by {@link Try#defer}.
+ *
+ * Operators are only recorded: each of them returns a new node that refers to the previous one,
+ * so the nodes can be shared and extended like regular Try values. When the result of a node is requested
+ * for the first time, the original operation and all the operators up to that node are executed
+ * in a single loop over one mutable slot, without creating intermediate Success/Failure objects.
+ * Every node of the executed chain keeps its result and the chain starts from the closest node whose result
+ * is already known, so the original operation and every operator are executed at most once no matter
+ * how many nodes derived from them are evaluated. Sharing the nodes costs one small node per operator
+ * instead of a single fused object, but no Success, Failure or lambda is created between them.
+ * The result is the same as if the operators were applied to {@link Try#of} one by one,
+ * except that a filter predicate that throws fails the pipeline with its exception.
+ *
+ * The nodes are not thread-safe.
+ */
+class LazyTry<T> {
+    private static final byte SOURCE = -1;
+    private static final byte MAP = 0;
+    private static final byte FILTER = 1;
+    private static final byte FLAT_MAP = 2;
+    private static final byte RECOVER = 3;
+    private static final byte RECOVER_WITH = 4;
+
+    private final byte kind;
+    /**
+     * The original operation for the source node, otherwise the recorded operator
+     */
+    private final Object operator;
+    /**
+     * The number of operators between the source and this node
+     */
+    private final int depth;
+    /**
+     * The node this operator applies to, or null for the source node and once the result is computed
+     */
+    private LazyTry<?> previous;
+
+    private boolean evaluated;
+    /**
+     * The resulting value, meaningful only if there is no failure
+     */
+    private Object value;
+    /**
+     * The resulting exception, or null if the pipeline succeeded
+     */
+    private Throwable failure;
+    /**
+     * The stackless exception thrown by getUnchecked, created at most once per node
+     */
+    private RuntimeException stacklessUnchecked;
+
+    LazyTry(ThrowableOperation<T> operation) {
+        this(null, SOURCE, operation);
+    }
+
+    private LazyTry(LazyTry<?> previous, byte kind, Object operator) {
+        this.previous = previous;
+        this.kind = kind;
+        this.operator = operator;
+        this.depth = previous == null ? 0 : previous.depth + 1;
+    }
+
+    /**
+     * Records {@link Try#map}
+     */
+    public <U> LazyTry<U> map(ThrowableFunction<? super T, ? extends U> function) {
+        return add(MAP, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Records {@link Try#filter(Predicate)}
+     */
+    public LazyTry<T> filter(Predicate<T> predicate) {
+        return add(FILTER, Objects.requireNonNull(predicate));
+    }
+
+    /**
+     * Records {@link Try#flatMap}
+     */
+    public <U> LazyTry<U> flatMap(ThrowableFunction<? super T, Try<U>> function) {
+        return add(FLAT_MAP, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Records {@link Try#recover}
+     */
+    public LazyTry<T> recover(ThrowableFunction<? super Throwable, T> function) {
+        return add(RECOVER, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Records {@link Try#recoverWith}
+     */
+    public LazyTry<T> recoverWith(ThrowableFunction<? super Throwable, Try<T>> function) {
+        return add(RECOVER_WITH, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Returns true if the pipeline succeeded, otherwise returns false
+     */
+    public boolean isSuccess() {
+        evaluate();
+        return failure == null;
+    }
+
+    /**
+     * Returns the resulting value if the pipeline succeeded, otherwise throws the exception it failed with
+     */
+    @SuppressWarnings("unchecked")
+    public T get() throws Throwable {
+        evaluate();
+        if (failure != null) {
+            throw failure;
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the resulting value if the pipeline succeeded,
+     * otherwise throws the exception it failed with wrapped in a RuntimeException
+     *
+     * @throws RuntimeException that wraps the original exception
+     */
+    @SuppressWarnings("unchecked")
+    public T getUnchecked() {
+        evaluate();
+        if (failure != null) {
+            if (StackTracePolicy.global().captureStackTrace()) {
+                throw new RuntimeException(failure);
+            }
+            if (stacklessUnchecked == null) {
+                stacklessUnchecked = StackTracePolicy.stacklessUnchecked(failure);
+            }
+            throw stacklessUnchecked;
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns a non-empty Optional that wraps the resulting value if the pipeline succeeded,
+     * otherwise returns an empty Optional
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> toOptional() {
+        evaluate();
+        return failure == null ? Optional.ofNullable((T) value) : Optional.empty();
+    }
+
+    /**
+     * Returns the resulting value if the pipeline succeeded, otherwise returns the given default value
+     */
+    @SuppressWarnings("unchecked")
+    public T getOrElse(T defaultValue) {
+        evaluate();
+        return failure == null ? (T) value : defaultValue;
+    }
+
+    /**
+     * Returns the resulting value if the pipeline succeeded,
+     * otherwise returns the result produced by the given supplier
+     */
+    @SuppressWarnings("unchecked")
+    public T getOrElseSupply(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier);
+        evaluate();
+        return failure == null ? (T) value : supplier.get();
+    }
+
+    /**
+     * Returns the resulting value if the pipeline succeeded,
+     * otherwise throws an exception produced by the exception supplier
+     *
+     * @throws Throwable produced by the exception supplier
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> T getOrElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        evaluate();
+        if (failure != null) {
+            throw exceptionSupplier.get();
+        }
+        return (T) value;
+    }
+
+    /**
+     * Converts the result of the pipeline into a regular Success or Failure
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> toTry() {
+        evaluate();
+        if (failure == null) {
+            return Success.of((T) value);
+        }
+        return failure == StackTracePolicy.NO_SUCH_ELEMENT ? Failure.noSuchElement() : new Failure<>(failure);
+    }
+
+    private <U> LazyTry<U> add(byte kind, Object operator) {
+        return new LazyTry<>(this, kind, operator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evaluate() {
+        if (evaluated) {
+            return;
+        }
+
+        // collects the nodes back to the closest evaluated one or to the source
+        LazyTry<?>[] chain = new LazyTry<?>[depth + 1];
+        int first = chain.length;
+        LazyTry<?> node = this;
+        do {
+            chain[--first] = node;
+            node = node.previous;
+        } while (!chain[first].evaluated && node != null);
+
+        Object slot = null;
+        Throwable error = null;
+        if (chain[first].evaluated) {
+            slot = chain[first].value;
+            error = chain[first].failure;
+            first++;
+        }
+
+        for (int i = first; i < chain.length; i++) {
+            Object operator = chain[i].operator;
+            switch (chain[i].kind) {
+                case SOURCE:
+                    try {
+                        slot = ((ThrowableOperation<Object>) operator).execute();
+                    } catch (Throwable t) {
+                        error = t;
+                    }
+                    break;
+                case MAP:
+                    if (error == null) {
+                        try {
+                            slot = ((ThrowableFunction<Object, Object>) operator).apply(slot);
+                        } catch (Throwable t) {
+                            error = t;
+                        }
+                    }
+                    break;
+                case FILTER:
+                    if (error == null) {
+                        try {
+                            if (!((Predicate<Object>) operator).test(slot)) {
+                                error = StackTracePolicy.global().captureStackTrace()
+                                        ? new NoSuchElementException()
+                                        : StackTracePolicy.NO_SUCH_ELEMENT;
+                            }
+                        } catch (Throwable t) {
+                            error = t;
+                        }
+                    }
+                    break;
+                case FLAT_MAP:
+                    if (error == null) {
+                        try {
+                            Try<Object> next = ((ThrowableFunction<Object, Try<Object>>) operator).apply(slot);
+                            if (next instanceof Failure) {
+                                error = ((Failure<Object>) next).cause();
+                            } else {
+                                slot = next.getUnchecked();
+                            }
+                        } catch (Throwable t) {
+                            error = t;
+                        }
+                    }
+                    break;
+                case RECOVER:
+                    if (error != null) {
+                        try {
+                            slot = ((ThrowableFunction<Throwable, Object>) operator).apply(error);
+                            error = null;
+                        } catch (Throwable t) {
+                            error = t;
+                        }
+                    }
+                    break;
+                case RECOVER_WITH:
+                    if (error != null) {
+                        try {
+                            Try<Object> next = ((ThrowableFunction<Throwable, Try<Object>>) operator).apply(error);
+                            if (next instanceof Failure) {
+                                error = ((Failure<Object>) next).cause();
+                            } else {
+                                slot = next.getUnchecked();
+                                error = null;
+                            }
+                        } catch (Throwable t) {
+                            error = t;
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operator: " + chain[i].kind);
+            }
+            // every node of the chain keeps its own result, so the nodes shared with other chains never run again
+            chain[i].complete(slot, error);
+        }
+    }
+
+    private void complete(Object slot, Throwable error) {
+        this.value = error == null ? slot : null;
+        this.failure = error;
+        this.evaluated = true;
+        // the previous nodes are no longer needed
+        this.previous = null;
+    }
+
+    @Override
+    public String toString() {
+        if (!evaluated) {
+            return "LazyTry[" + depth + " operators]";
+        }
+        return failure == null ? "LazyTry[Success[" + value + "]]" : "LazyTry[Failure[" + failure + "]]";
+    }
+}
@@ -0,0 +1,293 @@
+package Try;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Represents an operation that produces a long and may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableLongOperation {
+    long execute() throws Throwable;
+}
+
+/**
+ * Represents an operation on a single long that produces a long and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableLongUnaryOperator {
+    long applyAsLong(long operand) throws Throwable;
+}
+
+/**
+ * Represents a Function that accepts a long and returns R and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableLongFunction<R> {
+    R apply(long value) throws Throwable;
+}
+
+/**
+ * Represents an action on a long that may potentially fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableLongConsumer<E extends Throwable> {
+    void accept(long value) throws E;
+}
+
+/**
+ * A primitive specialization of {@link Try} for long that never boxes the resulting value.
+ * It is either a success that holds a long or a failure that holds a Throwable.
+ */
+final class LongTry {
+    /**
+     * It represents a filtered out value when stack traces are not captured
+     */
+    private static final LongTry NO_SUCH_ELEMENT = new LongTry(0, StackTracePolicy.NO_SUCH_ELEMENT);
+
+    private final long value;
+    /**
+     * The exception this failed with, or null if this is a success
+     */
+    private final Throwable e;
+
+    private LongTry(long value, Throwable e) {
+        this.value = value;
+        this.e = e;
+    }
+
+    /**
+     * Executes the given operation and returns the result wrapped in a success or failure
+     */
+    public static LongTry of(ThrowableLongOperation operation) {
+        Objects.requireNonNull(operation);
+
+        try {
+            return new LongTry(operation.execute(), null);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+    }
+
+    /**
+     * Returns a success that holds the given value
+     */
+    public static LongTry success(long value) {
+        return new LongTry(value, null);
+    }
+
+    /**
+     * Returns a failure that holds the given exception
+     */
+    public static LongTry failure(Throwable e) {
+        return new LongTry(0, Objects.requireNonNull(e));
+    }
+
+    /**
+     * Returns true if the original operation succeeded, otherwise returns false
+     */
+    public boolean isSuccess() {
+        return e == null;
+    }
+
+    /**
+     * Returns the resulting value if this is a success, otherwise throws the original exception
+     */
+    public long getAsLong() throws Throwable {
+        if (e != null) {
+            throw e;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws the original exception wrapped in a RuntimeException
+     *
+     * @throws RuntimeException that wraps the original exception
+     */
+    public long getUnchecked() {
+        if (e != null) {
+            throw StackTracePolicy.global().captureStackTrace()
+                    ? new RuntimeException(e)
+                    : StackTracePolicy.stacklessUnchecked(e);
+        }
+        return value;
+    }
+
+    /**
+     * Converts this to a non-empty OptionalLong if this is a success, otherwise returns an empty OptionalLong
+     */
+    public OptionalLong toOptional() {
+        return e == null ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns the given default value if this is a failure, otherwise returns the resulting value
+     */
+    public long getOrElse(long defaultValue) {
+        return e == null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the resulting value if it is a success,
+     * otherwise returns the result produced by the given supplier
+     */
+    public long getOrElseSupply(LongSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        return e == null ? value : supplier.getAsLong();
+    }
+
+    /**
+     * Returns the resulting value if this is a success,
+     * otherwise throws an exception produced by the exception supplier
+     *
+     * @throws Throwable produced by the exception supplier
+     */
+    public <X extends Throwable> long getOrElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (e != null) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given action to the resulting value if it is a success, otherwise does nothing
+     *
+     * @return the current LongTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> LongTry onSuccess(ThrowableLongConsumer<E> action) throws E {
+        if (e == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Applies the given action to the exception if it is a failure, otherwise does nothing
+     *
+     * @return the current LongTry object
+     * @throws E if the action throws an exception
+     */
+    public <E extends Throwable> LongTry onFailure(ThrowableConsumer<Throwable, E> action) throws E {
+        if (e != null) {
+            action.accept(e);
+        }
+        return this;
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this LongTry
+     */
+    public LongTry filter(LongPredicate predicate) {
+        return filter(predicate, StackTracePolicy.global());
+    }
+
+    /**
+     * Converts this success into a failure (which holds NoSuchElementException)
+     * if the predicate doesn't match for the value, otherwise returns this LongTry.
+     * The NoSuchElementException captures its stack trace according to the given policy
+     */
+    public LongTry filter(LongPredicate predicate, StackTracePolicy policy) {
+        Objects.requireNonNull(predicate);
+
+        if (e != null || predicate.test(value)) {
+            return this;
+        } else if (policy.captureStackTrace()) {
+            return new LongTry(0, new NoSuchElementException());
+        } else {
+            return NO_SUCH_ELEMENT;
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * If that function fails a failure is returned
+     */
+    public LongTry map(ThrowableLongUnaryOperator function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return new LongTry(function.applyAsLong(value), null);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success, otherwise returns this failure.
+     * The LongTry returned by the function is passed through as is
+     */
+    public LongTry flatMap(ThrowableLongFunction<LongTry> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return this;
+        }
+        try {
+            return Objects.requireNonNull(function.apply(value));
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a success and wraps the result into a Try,
+     * otherwise returns a Failure that holds the same exception
+     */
+    public <R> Try<R> mapToObj(ThrowableLongFunction<? extends R> function) {
+        Objects.requireNonNull(function);
+        if (e != null) {
+            return new Failure<>(e);
+        }
+        try {
+            return Success.of(function.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    /**
+     * Converts this into a DoubleTry without boxing
+     */
+    public DoubleTry asDoubleTry() {
+        return e == null ? DoubleTry.success(value) : DoubleTry.failure(e);
+    }
+
+    /**
+     * Converts this into a Try that holds a boxed value
+     */
+    public Try<Long> boxed() {
+        return e == null ? Success.of(value) : new Failure<>(e);
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if it is a failure,
+     * otherwise returns this success.
+     *
+     * @return a new LongTry in the case of failure, or the current success
+     */
+    public LongTry recover(ThrowableToLongFunction<? super Throwable> function) {
+        Objects.requireNonNull(function);
+        if (e == null) {
+            return this;
+        }
+        try {
+            return new LongTry(function.applyAsLong(e), null);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return e == null ? "LongTry.Success[" + value + "]" : "LongTry.Failure[" + e + "]";
+    }
+}
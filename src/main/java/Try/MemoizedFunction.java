@@ -0,0 +1,208 @@
+package Try;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A function created by {@link Try#memoize} that caches both Success and Failure results.
+ *
+ * Keys are spread over independently locked stripes, each of them is an access-ordered map
+ * that evicts its least recently used entry when it is full. Concurrent misses for the same key
+ * are coalesced, so the underlying function is executed only once for them.
+ */
+final class MemoizedFunction<K, V> implements Function<K, Try<V>> {
+    /**
+     * The expiration time of entries that never expire
+     */
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final ThrowableFunction<? super K, ? extends V> function;
+    private final CachePolicy policy;
+    private final Stripe<K, V>[] stripes;
+    private final ConcurrentHashMap<K, CompletableFuture<Try<V>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoizedFunction(ThrowableFunction<? super K, ? extends V> function, CachePolicy policy) {
+        this.function = Objects.requireNonNull(function);
+        this.policy = Objects.requireNonNull(policy);
+
+        // every stripe holds at least one entry and the capacities add up to the maximum size
+        long maximumSize = policy.getMaximumSize();
+        int count = (int) Math.min(policy.getStripes(), maximumSize);
+        long capacity = maximumSize / count;
+        long remainder = maximumSize % count;
+        @SuppressWarnings("unchecked")
+        Stripe<K, V>[] stripes = (Stripe<K, V>[]) new Stripe<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>((int) Math.min(Integer.MAX_VALUE, capacity + (i < remainder ? 1 : 0)),
+                    evictions);
+        }
+        this.stripes = stripes;
+    }
+
+    /**
+     * Returns the cached result for the given key, or executes the function and caches its result
+     */
+    @Override
+    public Try<V> apply(K key) {
+        Objects.requireNonNull(key);
+        Stripe<K, V> stripe = stripeFor(key);
+
+        Try<V> cached = stripe.get(key, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<Try<V>> pending = new CompletableFuture<>();
+        CompletableFuture<Try<V>> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            // another thread is already computing the same key
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                return new Failure<>(e.getCause());
+            }
+        }
+
+        try {
+            // the previous computation could have finished between the lookup and putIfAbsent
+            Try<V> result = stripe.get(key, System.nanoTime());
+            if (result == null) {
+                result = Try.of(() -> function.apply(key));
+                long ttl = result.isSuccess() ? policy.getSuccessTtlNanos() : policy.getFailureTtlNanos();
+                if (ttl > 0) {
+                    stripe.put(key, result, expiresAt(ttl));
+                }
+            }
+            pending.complete(result);
+            return result;
+        } catch (Throwable t) {
+            pending.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Removes the cached result for the given key
+     */
+    public void invalidate(K key) {
+        stripeFor(Objects.requireNonNull(key)).remove(key);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cached entries, including the expired ones that have not been removed yet
+     */
+    public long size() {
+        long size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    private static long expiresAt(long ttl) {
+        if (ttl == Long.MAX_VALUE) {
+            return NEVER;
+        }
+        long now = System.nanoTime();
+        long expiresAt = now + ttl;
+        // a TTL too long for the clock saturates to never
+        return expiresAt < now ? NEVER : expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizedFunction[hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + ", " + policy + "]";
+    }
+
+    /**
+     * A cached result with its expiration time
+     */
+    private static final class Entry<V> {
+        private final Try<V> result;
+        private final long expiresAt;
+
+        Entry(Try<V> result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * A bounded LRU map guarded by its own lock
+     */
+    private static final class Stripe<K, V> {
+        private final int capacity;
+        private final LongAdder evictions;
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        Stripe(int capacity, LongAdder evictions) {
+            this.capacity = capacity;
+            this.evictions = evictions;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        synchronized Try<V> get(K key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt != NEVER && entry.expiresAt - now <= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+
+        synchronized void put(K key, Try<V> result, long expiresAt) {
+            entries.put(key, new Entry<>(result, expiresAt));
+            if (entries.size() > capacity) {
+                Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        synchronized void remove(K key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
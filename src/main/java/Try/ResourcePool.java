@@ -0,0 +1,157 @@
+package Try;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of expensive resources used by {@link Try#withResources(ResourcePool, ThrowableFunction)}.
+ *
+ * A call borrows an idle resource if there is one and opens a new one otherwise, so it never blocks.
+ * After a successful call the resource is returned to the pool, unless maxIdle resources are already idle,
+ * in which case it is closed. After a failed call the resource may be broken, so it is closed as well.
+ */
+final class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
+    private final ThrowableOperation<? extends R> opener;
+    private final ArrayBlockingQueue<R> idle;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean closed;
+
+    private ResourcePool(ThrowableOperation<? extends R> opener, int maxIdle) {
+        this.opener = opener;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Returns a pool that opens resources with the given operation and keeps at most maxIdle of them
+     */
+    static <R extends AutoCloseable> ResourcePool<R> of(ThrowableOperation<? extends R> opener, int maxIdle) {
+        Objects.requireNonNull(opener);
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("Maximum number of idle resources must be positive: " + maxIdle);
+        }
+        return new ResourcePool<>(opener, maxIdle);
+    }
+
+    /**
+     * Applies the given function to a borrowed resource and returns the result wrapped in a Success or Failure.
+     * Failures to open or close a resource are returned as a Failure too,
+     * a close failure after a failed call is added to its exception as suppressed
+     */
+    <T> Try<T> execute(ThrowableFunction<? super R, ? extends T> function) {
+        Objects.requireNonNull(function);
+
+        R resource = idle.poll();
+        if (resource != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            try {
+                resource = Objects.requireNonNull(opener.execute(), "Opened resource is null");
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+
+        T value;
+        try {
+            value = function.apply(resource);
+        } catch (Throwable t) {
+            try {
+                closeResource(resource);
+            } catch (Throwable closeFailure) {
+                return new Failure<>(StackTracePolicy.withSuppressed(t, closeFailure));
+            }
+            return new Failure<>(t);
+        }
+
+        if (!closed && idle.offer(resource)) {
+            // the pool may have been closed meanwhile, make sure the resource is not left open
+            if (!closed || !idle.remove(resource)) {
+                return Success.of(value);
+            }
+        }
+        try {
+            closeResource(resource);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+        return Success.of(value);
+    }
+
+    /**
+     * Returns the number of calls that reused an idle resource
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of calls that had to open a new resource
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of calls that reused an idle resource, or 0 if there have been no calls
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of idle resources
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes all the idle resources. Resources that are in use are closed when they are released.
+     * If some of them fail to close, an IllegalStateException is thrown after all the resources are closed,
+     * its cause is the first close failure and the rest are suppressed
+     */
+    @Override
+    public void close() {
+        closed = true;
+        IllegalStateException failure = null;
+        R resource;
+        while ((resource = idle.poll()) != null) {
+            try {
+                closeResource(resource);
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Failed to close an idle resource", e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Closes the given resource. If the close is interrupted, the interrupt status of the current thread
+     * is restored before the InterruptedException is rethrown, so that it is not lost when the exception
+     * ends up in a Failure
+     */
+    static void closeResource(AutoCloseable resource) throws Exception {
+        try {
+            resource.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResourcePool[idle=" + idle.size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -0,0 +1,181 @@
+package Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Describes how {@link Try#retry} repeats a failed operation: the maximum number of attempts,
+ * the exponential backoff between them, the jitter applied to every delay, which exceptions are retried
+ * and the maximum time spent on all the attempts together.
+ *
+ * Unless configured otherwise, the delay starts at 100 ms and doubles up to 10 s without jitter,
+ * every Exception except InterruptedException is retried and the elapsed time is not limited.
+ *
+ * Instances are immutable, every "with" method returns a new policy.
+ */
+final class RetryPolicy {
+    private static final long DEFAULT_INITIAL_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final Predicate<Throwable> DEFAULT_RETRYABLE =
+            t -> t instanceof Exception && !(t instanceof InterruptedException);
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryable;
+    private final long maxElapsedNanos;
+
+    private RetryPolicy(int maxAttempts, long initialDelayNanos, double multiplier, long maxDelayNanos,
+                        double jitter, Predicate<? super Throwable> retryable, long maxElapsedNanos) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.multiplier = multiplier;
+        this.maxDelayNanos = maxDelayNanos;
+        this.jitter = jitter;
+        this.retryable = retryable;
+        this.maxElapsedNanos = maxElapsedNanos;
+    }
+
+    /**
+     * Returns a policy that executes the operation at most the given number of times, the first attempt included
+     */
+    public static RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Maximum number of attempts must be positive: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, DEFAULT_INITIAL_DELAY_NANOS, 2, DEFAULT_MAX_DELAY_NANOS, 0,
+                DEFAULT_RETRYABLE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a policy in which the first retry waits for the initial delay and every next one waits
+     * multiplier times longer, but never longer than the maximum delay
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, double multiplier, Duration maxDelay) {
+        if (!(multiplier >= 1)) {
+            throw new IllegalArgumentException("Multiplier must be at least 1: " + multiplier);
+        }
+        long initial = toNanos(initialDelay);
+        long max = toNanos(maxDelay);
+        if (max < initial) {
+            throw new IllegalArgumentException("Maximum delay must not be less than the initial one");
+        }
+        return new RetryPolicy(maxAttempts, initial, multiplier, max, jitter, retryable, maxElapsedNanos);
+    }
+
+    /**
+     * Returns a policy in which every delay is randomly shortened by up to the given fraction (0..1) of it,
+     * so that clients failing at the same time do not retry at the same time
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("Jitter must be in [0, 1]: " + jitter);
+        }
+        return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryable,
+                maxElapsedNanos);
+    }
+
+    /**
+     * Returns a policy that retries only the failures whose exception matches the given predicate
+     */
+    public RetryPolicy retryOn(Predicate<? super Throwable> retryable) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter,
+                Objects.requireNonNull(retryable), maxElapsedNanos);
+    }
+
+    /**
+     * Returns a policy that does not start a retry that would begin later than the given time
+     * after the first attempt
+     */
+    public RetryPolicy withMaxElapsedTime(Duration maxElapsedTime) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryable,
+                toNanos(maxElapsedTime));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialDelayNanos() {
+        return initialDelayNanos;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public long getMaxDelayNanos() {
+        return maxDelayNanos;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public long getMaxElapsedNanos() {
+        return maxElapsedNanos;
+    }
+
+    /**
+     * Executes the given operation until it succeeds or the policy gives up, sleeping on the current thread
+     * between the attempts. Returns the last Failure if all the attempts fail
+     */
+    <T> Try<T> execute(ThrowableOperation<T> operation) {
+        Objects.requireNonNull(operation);
+
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            Try<T> result = Try.of(operation);
+            if (result.isSuccess() || attempt == maxAttempts || !retryable.test(((Failure<T>) result).cause())) {
+                return result;
+            }
+
+            long delay = delayNanos(attempt);
+            if (maxElapsedNanos != Long.MAX_VALUE && System.nanoTime() - start + delay > maxElapsedNanos) {
+                return result;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Failure<>(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the delay before the retry that follows the given attempt (1-based)
+     */
+    long delayNanos(int attempt) {
+        double delay = Math.min(initialDelayNanos * Math.pow(multiplier, attempt - 1), maxDelayNanos);
+        if (jitter > 0) {
+            delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) delay;
+    }
+
+    private static long toNanos(Duration duration) {
+        Objects.requireNonNull(duration);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must not be negative: " + duration);
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy[maxAttempts=" + maxAttempts + ", initialDelay=" + Duration.ofNanos(initialDelayNanos)
+                + ", multiplier=" + multiplier + ", maxDelay=" + Duration.ofNanos(maxDelayNanos)
+                + ", jitter=" + jitter + ", maxElapsedTime="
+                + (maxElapsedNanos == Long.MAX_VALUE ? "unbounded" : Duration.ofNanos(maxElapsedNanos)) + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package Try;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable view of the counters of a single instrumented site
+ */
+final class SiteSnapshot {
+    private final String name;
+    private final long successCount;
+    private final long failureCount;
+    private final Map<String, Long> failureCountByType;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    SiteSnapshot(String name, long successCount, long failureCount, Map<String, Long> failureCountByType,
+                 long p50Nanos, long p99Nanos, long maxNanos) {
+        this.name = name;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.failureCountByType = Collections.unmodifiableMap(failureCountByType);
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public Map<String, Long> getFailureCountByType() {
+        return failureCountByType;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: successes=%d failures=%d %s p50=%dns p99=%dns max=%dns",
+                name, successCount, failureCount, failureCountByType, p50Nanos, p99Nanos, maxNanos);
+    }
+}
@@ -0,0 +1,164 @@
+package Try;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines whether the exceptions created by Try itself (the NoSuchElementException of a filtered out
+ * Success and the RuntimeException thrown by {@link Try#getUnchecked()}) capture a stack trace.
+ *
+ * FULL always captures it, NONE never does and reuses preallocated stackless exceptions,
+ * SAMPLED captures it for roughly one of every N exceptions.
+ *
+ * The global policy is FULL unless it is overridden by the "try.stackTracePolicy" system property
+ * (FULL, NONE or SAMPLED:N) or by {@link #setGlobal}. A policy can also be passed per call site.
+ */
+final class StackTracePolicy {
+    /**
+     * Always captures the stack trace
+     */
+    static final StackTracePolicy FULL = new StackTracePolicy(1);
+    /**
+     * Never captures the stack trace
+     */
+    static final StackTracePolicy NONE = new StackTracePolicy(0);
+
+    /**
+     * A shared stackless exception used by filtered out values when the stack trace is not captured.
+     * Its cause and stack trace cannot be set. NoSuchElementException has no constructor that disables
+     * suppression, so Try never adds suppressed exceptions to it, see {@link #withSuppressed}
+     */
+    static final NoSuchElementException NO_SUCH_ELEMENT = new StacklessNoSuchElementException();
+    /**
+     * The stackless RuntimeException thrown by getUnchecked for {@link #NO_SUCH_ELEMENT}
+     */
+    static final RuntimeException NO_SUCH_ELEMENT_UNCHECKED = new StacklessRuntimeException(NO_SUCH_ELEMENT);
+
+    private static volatile StackTracePolicy global = fromProperty(System.getProperty("try.stackTracePolicy"));
+
+    /**
+     * 1 means FULL, 0 means NONE, N > 1 means one of N
+     */
+    private final int sampleRate;
+
+    private StackTracePolicy(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Returns a policy that captures the stack trace for one of every n exceptions on average
+     */
+    static StackTracePolicy sampled(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive: " + n);
+        }
+        return n == 1 ? FULL : new StackTracePolicy(n);
+    }
+
+    /**
+     * Returns the policy used when none is passed explicitly
+     */
+    static StackTracePolicy global() {
+        return global;
+    }
+
+    /**
+     * Replaces the policy used when none is passed explicitly
+     */
+    static void setGlobal(StackTracePolicy policy) {
+        global = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Returns true if the next exception must capture its stack trace
+     */
+    boolean captureStackTrace() {
+        if (sampleRate <= 1) {
+            return sampleRate == 1;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Wraps the given exception into a RuntimeException without capturing the stack trace
+     */
+    static RuntimeException stacklessUnchecked(Throwable cause) {
+        return cause == NO_SUCH_ELEMENT ? NO_SUCH_ELEMENT_UNCHECKED : new StacklessRuntimeException(cause);
+    }
+
+    /**
+     * Adds the suppressed exception to the primary one and returns the exception to throw.
+     * The shared {@link #NO_SUCH_ELEMENT} is never modified, it is replaced by a new stackless copy instead
+     */
+    static Throwable withSuppressed(Throwable primary, Throwable suppressed) {
+        Throwable target = primary == NO_SUCH_ELEMENT ? new StacklessNoSuchElementException() : primary;
+        target.addSuppressed(suppressed);
+        return target;
+    }
+
+    private static StackTracePolicy fromProperty(String value) {
+        if (value == null || value.equalsIgnoreCase("FULL")) {
+            return FULL;
+        }
+        if (value.equalsIgnoreCase("NONE")) {
+            return NONE;
+        }
+        if (value.regionMatches(true, 0, "SAMPLED:", 0, "SAMPLED:".length())) {
+            return sampled(Integer.parseInt(value.substring("SAMPLED:".length()).trim()));
+        }
+        throw new IllegalArgumentException("Unknown stack trace policy: " + value);
+    }
+
+    @Override
+    public String toString() {
+        if (sampleRate <= 1) {
+            return sampleRate == 1 ? "FULL" : "NONE";
+        }
+        return "SAMPLED:" + sampleRate;
+    }
+
+    /**
+     * NoSuchElementException that never fills in its stack trace and whose cause and stack trace cannot be set
+     */
+    private static final class StacklessNoSuchElementException extends NoSuchElementException {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public synchronized Throwable initCause(Throwable cause) {
+            throw new IllegalStateException("Cannot set the cause of a stackless NoSuchElementException");
+        }
+
+        @Override
+        public void setStackTrace(StackTraceElement[] stackTrace) {
+            // ignored like for an exception without a writable stack trace
+        }
+
+        @Override
+        public String toString() {
+            return NoSuchElementException.class.getName();
+        }
+    }
+
+    /**
+     * RuntimeException that neither fills in its stack trace nor records suppressed exceptions
+     */
+    private static final class StacklessRuntimeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessRuntimeException(Throwable cause) {
+            super(cause == null ? null : cause.toString(), cause, false, false);
+        }
+
+        @Override
+        public String toString() {
+            String message = getLocalizedMessage();
+            return message == null ? RuntimeException.class.getName() : RuntimeException.class.getName() + ": " + message;
+        }
+    }
+}
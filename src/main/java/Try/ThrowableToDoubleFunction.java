@@ -0,0 +1,9 @@
+package Try;
+
+/**
+ * Represents a Function that accepts T and returns a double and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableToDoubleFunction<T> {
+    double applyAsDouble(T t) throws Throwable;
+}
@@ -0,0 +1,9 @@
+package Try;
+
+/**
+ * Represents a Function that accepts T and returns an int and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableToIntFunction<T> {
+    int applyAsInt(T t) throws Throwable;
+}
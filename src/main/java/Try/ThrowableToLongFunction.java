@@ -0,0 +1,9 @@
+package Try;
+
+/**
+ * Represents a Function that accepts T and returns a long and may fail with an exception
+ */
+@FunctionalInterface
+interface ThrowableToLongFunction<T> {
+    long applyAsLong(T t) throws Throwable;
+}
@@ -0,0 +1,186 @@
+package Try;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * Represents a deferred Try computation that is evaluated in constant stack space.
+ *
+ * flatMap and recoverWith only describe the next step. {@link #run()} evaluates the description
+ * in a loop that keeps the pending continuations in a heap-allocated stack, so recursive algorithms
+ * written as arbitrarily deep flatMap/recoverWith chains never overflow the thread stack.
+ * Create instances with {@link Try#suspend}, {@link Try#tailCall} or {@link #done}.
+ */
+abstract class TrampolinedTry<T> {
+    private TrampolinedTry() {
+    }
+
+    /**
+     * Returns a computation that has already completed with the given Try
+     */
+    public static <T> TrampolinedTry<T> done(Try<T> result) {
+        return new Done<>(Objects.requireNonNull(result));
+    }
+
+    /**
+     * Returns a computation that executes the given operation when it is run
+     */
+    static <T> TrampolinedTry<T> suspend(ThrowableOperation<T> operation) {
+        Objects.requireNonNull(operation);
+        return new Suspend<>(() -> new Done<>(Try.of(operation)));
+    }
+
+    /**
+     * Returns a computation that produces the next computation when it is run
+     */
+    static <T> TrampolinedTry<T> tailCall(ThrowableOperation<TrampolinedTry<T>> next) {
+        return new Suspend<>(Objects.requireNonNull(next));
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a Success, otherwise keeps the Failure.
+     * If that function fails a Failure is returned
+     */
+    public <U> TrampolinedTry<U> map(ThrowableFunction<? super T, ? extends U> function) {
+        Objects.requireNonNull(function);
+        return new FlatMap<>(this, value -> new Done<>(Try.of(() -> function.apply(value))));
+    }
+
+    /**
+     * Continues with the computation returned by the given function if this is a Success,
+     * otherwise keeps the Failure
+     */
+    public <U> TrampolinedTry<U> flatMap(ThrowableFunction<? super T, TrampolinedTry<U>> function) {
+        return new FlatMap<>(this, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if this is a Failure, otherwise keeps the Success
+     */
+    public TrampolinedTry<T> recover(ThrowableFunction<? super Throwable, T> function) {
+        Objects.requireNonNull(function);
+        return new RecoverWith<>(this, throwable -> new Done<>(Try.of(() -> function.apply(throwable))));
+    }
+
+    /**
+     * Continues with the computation returned by the given function if this is a Failure,
+     * otherwise keeps the Success
+     */
+    public TrampolinedTry<T> recoverWith(ThrowableFunction<? super Throwable, TrampolinedTry<T>> function) {
+        return new RecoverWith<>(this, Objects.requireNonNull(function));
+    }
+
+    /**
+     * Evaluates the computation in constant stack space and returns its result
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> run() {
+        ArrayDeque<Continuation<?, ?>> continuations = new ArrayDeque<>();
+        TrampolinedTry<?> current = this;
+
+        while (true) {
+            if (current instanceof Continuation) {
+                Continuation<?, ?> continuation = (Continuation<?, ?>) current;
+                continuations.push(continuation);
+                current = continuation.source;
+            } else if (current instanceof Suspend) {
+                current = next(((Suspend<?>) current).next);
+            } else {
+                Try<?> result = ((Done<?>) current).result;
+                Continuation<Object, Object> handler = null;
+                while (handler == null && !continuations.isEmpty()) {
+                    Continuation<Object, Object> candidate = (Continuation<Object, Object>) continuations.pop();
+                    if (candidate.handlesFailure == result instanceof Failure) {
+                        handler = candidate;
+                    }
+                }
+                if (handler == null) {
+                    return (Try<T>) result;
+                }
+                current = handler.continueWith(result);
+            }
+        }
+    }
+
+    private static TrampolinedTry<?> next(ThrowableOperation<? extends TrampolinedTry<?>> operation) {
+        try {
+            return Objects.requireNonNull(operation.execute());
+        } catch (Throwable t) {
+            return new Done<>(new Failure<>(t));
+        }
+    }
+
+    /**
+     * A completed computation
+     */
+    private static final class Done<T> extends TrampolinedTry<T> {
+        private final Try<T> result;
+
+        Done(Try<T> result) {
+            this.result = result;
+        }
+    }
+
+    /**
+     * A computation whose next step is produced lazily
+     */
+    private static final class Suspend<T> extends TrampolinedTry<T> {
+        private final ThrowableOperation<? extends TrampolinedTry<T>> next;
+
+        Suspend(ThrowableOperation<? extends TrampolinedTry<T>> next) {
+            this.next = next;
+        }
+    }
+
+    /**
+     * A computation that continues the source one either on success or on failure
+     */
+    private abstract static class Continuation<S, T> extends TrampolinedTry<T> {
+        private final TrampolinedTry<S> source;
+        private final boolean handlesFailure;
+
+        Continuation(TrampolinedTry<S> source, boolean handlesFailure) {
+            this.source = source;
+            this.handlesFailure = handlesFailure;
+        }
+
+        abstract TrampolinedTry<T> continueWith(Try<?> result);
+    }
+
+    private static final class FlatMap<S, T> extends Continuation<S, T> {
+        private final ThrowableFunction<? super S, TrampolinedTry<T>> function;
+
+        FlatMap(TrampolinedTry<S> source, ThrowableFunction<? super S, TrampolinedTry<T>> function) {
+            super(source, false);
+            this.function = function;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        TrampolinedTry<T> continueWith(Try<?> result) {
+            try {
+                return Objects.requireNonNull(function.apply((S) result.getUnchecked()));
+            } catch (Throwable t) {
+                return new Done<>(new Failure<>(t));
+            }
+        }
+    }
+
+    private static final class RecoverWith<T> extends Continuation<T, T> {
+        private final ThrowableFunction<? super Throwable, TrampolinedTry<T>> function;
+
+        RecoverWith(TrampolinedTry<T> source, ThrowableFunction<? super Throwable, TrampolinedTry<T>> function) {
+            super(source, true);
+            this.function = function;
+        }
+
+        @Override
+        TrampolinedTry<T> continueWith(Try<?> result) {
+            try {
+                return Objects.requireNonNull(function.apply(((Failure<?>) result).cause()));
+            } catch (Throwable t) {
+                return new Done<>(new Failure<>(t));
+            }
+        }
+    }
+}
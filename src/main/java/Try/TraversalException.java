@@ -0,0 +1,26 @@
+package Try;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds all the exceptions of a bulk operation executed in the {@link TraverseMode#COLLECT_ALL} mode,
+ * or of all the failed attempts of {@link Try#firstSuccess}
+ */
+class TraversalException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Throwable> exceptions;
+
+    TraversalException(List<Throwable> exceptions) {
+        super(exceptions.size() + " element(s) failed, the first one with " + exceptions.get(0));
+        this.exceptions = Collections.unmodifiableList(exceptions);
+    }
+
+    /**
+     * Returns the exceptions in the order of the failed elements
+     */
+    List<Throwable> getExceptions() {
+        return exceptions;
+    }
+}
@@ -0,0 +1,207 @@
+package Try;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implements the bulk operations of {@link Try}
+ */
+final class Traversals {
+    /**
+     * The number of leaf tasks created per worker thread by the parallel traversal
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private Traversals() {
+    }
+
+    static <T, R> Try<List<R>> traverse(Collection<? extends T> values,
+                                        ThrowableFunction<? super T, ? extends R> function,
+                                        TraverseMode mode) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(mode);
+
+        Object[] results = new Object[values.size()];
+        List<Throwable> exceptions = null;
+        int index = 0;
+        for (T value : values) {
+            try {
+                results[index++] = function.apply(value);
+            } catch (Throwable t) {
+                if (mode == TraverseMode.FAIL_FAST) {
+                    return new Failure<>(t);
+                }
+                if (exceptions == null) {
+                    exceptions = new ArrayList<>();
+                }
+                exceptions.add(t);
+            }
+        }
+        return exceptions == null ? Success.of(asList(results)) : new Failure<>(new TraversalException(exceptions));
+    }
+
+    static <T> Try<List<T>> sequence(List<? extends Try<? extends T>> tries, TraverseMode mode) {
+        Objects.requireNonNull(tries);
+        Objects.requireNonNull(mode);
+
+        Object[] results = new Object[tries.size()];
+        List<Throwable> exceptions = null;
+        int index = 0;
+        for (Try<? extends T> element : tries) {
+            if (element instanceof Failure) {
+                if (mode == TraverseMode.FAIL_FAST) {
+                    return failure(element);
+                }
+                if (exceptions == null) {
+                    exceptions = new ArrayList<>();
+                }
+                exceptions.add(((Failure<?>) element).cause());
+            } else {
+                results[index] = element.getUnchecked();
+            }
+            index++;
+        }
+        return exceptions == null ? Success.of(asList(results)) : new Failure<>(new TraversalException(exceptions));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> Try<List<R>> parallelTraverse(Collection<? extends T> values,
+                                                ThrowableFunction<? super T, ? extends R> function,
+                                                TraverseMode mode) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(mode);
+
+        List<? extends T> list = values instanceof List && values instanceof RandomAccess
+                ? (List<? extends T>) values
+                : new ArrayList<>(values);
+        int size = list.size();
+        int threshold = Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+
+        ParallelTraversal<T> task = new ParallelTraversal<>(list, function, mode, threshold);
+        task.invoke();
+
+        if (mode == TraverseMode.FAIL_FAST) {
+            Throwable first = task.firstFailure.get();
+            return first == null ? Success.of(asList(task.results)) : new Failure<>(first);
+        }
+        List<Throwable> exceptions = null;
+        for (int i = 0; i < size; i++) {
+            if (task.exceptions[i] != null) {
+                if (exceptions == null) {
+                    exceptions = new ArrayList<>();
+                }
+                exceptions.add(task.exceptions[i]);
+            }
+        }
+        return exceptions == null ? Success.of(asList(task.results)) : new Failure<>(new TraversalException(exceptions));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> asList(Object[] results) {
+        return Collections.unmodifiableList((List<R>) Arrays.asList(results));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Try<U> failure(Try<?> failure) {
+        return (Try<U>) failure;
+    }
+
+    /**
+     * Splits the index range in halves until it is small enough and writes the results into a presized array.
+     * In the FAIL_FAST mode the first failure stops the remaining leaves and cancels the forked ones
+     * that have not started yet
+     */
+    private static final class ParallelTraversal<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> values;
+        private final ThrowableFunction<? super T, ?> function;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        private final Object[] results;
+        /**
+         * Exceptions by index, used only in the COLLECT_ALL mode
+         */
+        private final Throwable[] exceptions;
+        /**
+         * The first observed exception, used only in the FAIL_FAST mode
+         */
+        private final AtomicReference<Throwable> firstFailure;
+
+        ParallelTraversal(List<? extends T> values, ThrowableFunction<? super T, ?> function,
+                          TraverseMode mode, int threshold) {
+            this(values, function, threshold, 0, values.size(),
+                    new Object[values.size()],
+                    mode == TraverseMode.COLLECT_ALL ? new Throwable[values.size()] : null,
+                    mode == TraverseMode.FAIL_FAST ? new AtomicReference<>() : null);
+        }
+
+        private ParallelTraversal(List<? extends T> values, ThrowableFunction<? super T, ?> function, int threshold,
+                                  int from, int to, Object[] results, Throwable[] exceptions,
+                                  AtomicReference<Throwable> firstFailure) {
+            this.values = values;
+            this.function = function;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.exceptions = exceptions;
+            this.firstFailure = firstFailure;
+        }
+
+        private boolean stopped() {
+            return firstFailure != null && firstFailure.get() != null;
+        }
+
+        @Override
+        protected void compute() {
+            if (stopped()) {
+                return;
+            }
+            if (to - from <= threshold) {
+                computeDirectly();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            ParallelTraversal<T> left = new ParallelTraversal<>(values, function, threshold,
+                    from, middle, results, exceptions, firstFailure);
+            ParallelTraversal<T> right = new ParallelTraversal<>(values, function, threshold,
+                    middle, to, results, exceptions, firstFailure);
+            left.fork();
+            right.compute();
+            if (stopped() && left.cancel(false)) {
+                return;
+            }
+            left.join();
+        }
+
+        private void computeDirectly() {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = function.apply(values.get(i));
+                } catch (Throwable t) {
+                    if (firstFailure != null) {
+                        firstFailure.compareAndSet(null, t);
+                        return;
+                    }
+                    exceptions[i] = t;
+                }
+                if (stopped()) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package Try;
+
+/**
+ * Determines how bulk operations ({@link Try#traverse}, {@link Try#sequence}) handle failed elements
+ */
+enum TraverseMode {
+    /**
+     * Stops at the first failure and returns a Failure that holds its original exception
+     */
+    FAIL_FAST,
+    /**
+     * Processes all the elements and returns a Failure that holds a TraversalException with all the exceptions
+     */
+    COLLECT_ALL
+}
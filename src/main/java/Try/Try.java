@@ -1,8 +1,13 @@
 package Try;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -40,15 +45,252 @@ interface Try<T> {
      */
     static <T> Try<T> of(ThrowableOperation<T> operation) {
         Objects.requireNonNull(operation);
+        if (TryMetrics.ENABLED) {
+            return TryMetrics.record(TryMetrics.OF, operation, () -> Success.of(operation.execute()));
+        }
 
         try {
-            return new Success<>(operation.execute());
+            return Success.of(operation.execute());
         } catch (Throwable t) {
             return new Failure<T>(t);
         }
         // take it from the previous step
     }
 
+    /**
+     * Returns a shared Success that holds no value
+     */
+    static Try<Void> unit() {
+        return Success.of(null);
+    }
+
+    /**
+     * Executes the given operation and returns the result wrapped in a Success or Failure.
+     * When the instrumentation is enabled (see {@link TryMetrics}) the outcome is recorded under the given site name
+     */
+    static <T> Try<T> of(String site, ThrowableOperation<T> operation) {
+        Objects.requireNonNull(site);
+        Objects.requireNonNull(operation);
+        if (TryMetrics.ENABLED) {
+            return TryMetrics.record(site, () -> Success.of(operation.execute()));
+        }
+        return of(operation);
+    }
+
+    /**
+     * Executes the given operation on the current thread and returns the result wrapped in a Success or Failure.
+     * If the operation is still running after the given timeout, it is interrupted
+     * and a Failure that holds a TimeoutException is returned
+     */
+    static <T> Try<T> of(ThrowableOperation<T> operation, Duration timeout) {
+        return of(operation, Deadline.after(timeout));
+    }
+
+    /**
+     * Executes the given operation on the current thread and returns the result wrapped in a Success or Failure.
+     * If the deadline has already passed the operation is not executed, if it passes while the operation is running
+     * the operation is interrupted. In both cases a Failure that holds a TimeoutException is returned
+     */
+    static <T> Try<T> of(ThrowableOperation<T> operation, Deadline deadline) {
+        return deadline.execute(operation);
+    }
+
+    /**
+     * Executes the given operation if the circuit breaker lets it through and returns the result wrapped
+     * in a Success or Failure. While the circuit is open the operation is not executed and a shared Failure
+     * that holds a CircuitBreakerOpenException is returned
+     */
+    static <T> Try<T> of(ThrowableOperation<T> operation, CircuitBreaker circuitBreaker) {
+        return circuitBreaker.execute(operation);
+    }
+
+    /**
+     * Executes the given operation on the current thread and repeats it according to the given policy
+     * while it fails. Returns the first Success or the last Failure
+     */
+    static <T> Try<T> retry(ThrowableOperation<T> operation, RetryPolicy policy) {
+        return policy.execute(operation);
+    }
+
+    /**
+     * Opens a resource with the given operation, applies the given function to it, closes it
+     * and returns the result wrapped in a Success or Failure. The resource is closed even if the function fails,
+     * in which case a close failure is added to the exception of the function as suppressed
+     */
+    static <R extends AutoCloseable, T> Try<T> withResources(ThrowableOperation<? extends R> opener,
+                                                             ThrowableFunction<? super R, ? extends T> function) {
+        Objects.requireNonNull(opener);
+        Objects.requireNonNull(function);
+        return of(() -> {
+            R resource = opener.execute();
+            if (resource == null) {
+                return function.apply(null);
+            }
+            T value;
+            try {
+                value = function.apply(resource);
+            } catch (Throwable t) {
+                try {
+                    ResourcePool.closeResource(resource);
+                } catch (Throwable closeFailure) {
+                    throw StackTracePolicy.withSuppressed(t, closeFailure);
+                }
+                throw t;
+            }
+            ResourcePool.closeResource(resource);
+            return value;
+        });
+    }
+
+    /**
+     * The same as {@link Try#withResources(ThrowableOperation, ThrowableFunction)}, but the resource is borrowed
+     * from the given pool and returned to it after a successful call instead of being opened and closed every time
+     */
+    static <R extends AutoCloseable, T> Try<T> withResources(ResourcePool<R> pool,
+                                                             ThrowableFunction<? super R, ? extends T> function) {
+        return pool.execute(function);
+    }
+
+    /**
+     * Executes the given operation asynchronously with the given executor
+     * and returns a TryFuture that will hold the result wrapped in a Success or Failure
+     */
+    static <T> TryFuture<T> ofAsync(ThrowableOperation<T> operation, Executor executor) {
+        return TryFuture.ofAsync(operation, executor);
+    }
+
+    /**
+     * Applies the given function to every value and returns a Success with the list of results,
+     * or the Failure of the first failed element
+     */
+    static <T, R> Try<List<R>> traverse(Collection<? extends T> values,
+                                        ThrowableFunction<? super T, ? extends R> function) {
+        return Traversals.traverse(values, function, TraverseMode.FAIL_FAST);
+    }
+
+    /**
+     * Applies the given function to every value and returns a Success with the list of results.
+     * Failed elements are handled according to the given mode
+     */
+    static <T, R> Try<List<R>> traverse(Collection<? extends T> values,
+                                        ThrowableFunction<? super T, ? extends R> function,
+                                        TraverseMode mode) {
+        return Traversals.traverse(values, function, mode);
+    }
+
+    /**
+     * The same as {@link Try#traverse(Collection, ThrowableFunction, TraverseMode)}, but the values are split
+     * into ranges that are processed by the common ForkJoinPool. In the FAIL_FAST mode the first failure
+     * stops the remaining work and the returned Failure holds the first exception observed, not necessarily
+     * the exception of the first failed element
+     */
+    static <T, R> Try<List<R>> parallelTraverse(Collection<? extends T> values,
+                                                ThrowableFunction<? super T, ? extends R> function,
+                                                TraverseMode mode) {
+        return Traversals.parallelTraverse(values, function, mode);
+    }
+
+    /**
+     * Turns a list of Try into a Success with the list of values, or returns the first Failure as is
+     */
+    static <T> Try<List<T>> sequence(List<? extends Try<? extends T>> tries) {
+        return Traversals.sequence(tries, TraverseMode.FAIL_FAST);
+    }
+
+    /**
+     * Turns a list of Try into a Success with the list of values.
+     * Failures are handled according to the given mode
+     */
+    static <T> Try<List<T>> sequence(List<? extends Try<? extends T>> tries, TraverseMode mode) {
+        return Traversals.sequence(tries, mode);
+    }
+
+    /**
+     * Executes the given operations concurrently with the given executor and returns a Success with the list
+     * of their results in the order of the operations. The first Failure is returned as soon as it is observed
+     * and the operations that are still running are cancelled
+     */
+    static <T> Try<List<T>> all(List<? extends ThrowableOperation<? extends T>> operations, Executor executor) {
+        return Combinators.all(operations, executor, Hedging.NONE);
+    }
+
+    /**
+     * The same as {@link Try#all(List, Executor)}, but an operation that has no result after the delay
+     * of the given hedging policy is launched once more and the first of its two results is used,
+     * so the operations must be safe to repeat
+     */
+    static <T> Try<List<T>> all(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                                Hedging hedging) {
+        return Combinators.all(operations, executor, hedging);
+    }
+
+    /**
+     * Executes the given operations concurrently with the given executor and returns the result
+     * of the first one to complete, whether it is a Success or a Failure. The others are cancelled
+     */
+    static <T> Try<T> race(List<? extends ThrowableOperation<? extends T>> operations, Executor executor) {
+        return Combinators.race(operations, executor, Hedging.NONE);
+    }
+
+    /**
+     * The same as {@link Try#race(List, Executor)}, but the operations are launched one by one
+     * according to the given hedging policy
+     */
+    static <T> Try<T> race(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                           Hedging hedging) {
+        return Combinators.race(operations, executor, hedging);
+    }
+
+    /**
+     * Executes the given operations concurrently with the given executor and returns the first Success.
+     * The others are cancelled. If all of them fail, a Failure with a TraversalException that holds
+     * all the exceptions in the order they were observed is returned
+     */
+    static <T> Try<T> firstSuccess(List<? extends ThrowableOperation<? extends T>> operations, Executor executor) {
+        return Combinators.firstSuccess(operations, executor, Hedging.NONE);
+    }
+
+    /**
+     * The same as {@link Try#firstSuccess(List, Executor)}, but the operations are launched one by one
+     * according to the given hedging policy. A failed attempt launches the next one right away
+     */
+    static <T> Try<T> firstSuccess(List<? extends ThrowableOperation<? extends T>> operations, Executor executor,
+                                   Hedging hedging) {
+        return Combinators.firstSuccess(operations, executor, hedging);
+    }
+
+    /**
+     * Returns a function that executes the given one and caches both its Success and Failure results
+     * according to the given policy. Concurrent calls with the same missing key execute the function once
+     */
+    static <K, V> MemoizedFunction<K, V> memoize(ThrowableFunction<? super K, ? extends V> function,
+                                                 CachePolicy policy) {
+        return new MemoizedFunction<>(function, policy);
+    }
+
+    /**
+     * Returns a trampolined computation that executes the given operation when it is run.
+     * Chains built on it with flatMap/recoverWith are evaluated in constant stack space
+     */
+    static <T> TrampolinedTry<T> suspend(ThrowableOperation<T> operation) {
+        return TrampolinedTry.suspend(operation);
+    }
+
+    /**
+     * Returns a trampolined computation that produces the next step of a recursive algorithm when it is run
+     */
+    static <T> TrampolinedTry<T> tailCall(ThrowableOperation<TrampolinedTry<T>> next) {
+        return TrampolinedTry.tailCall(next);
+    }
+
+    /**
+     * Returns a lazy pipeline that records the operators applied to it and executes the given operation
+     * together with all of them in a single pass only when the result is requested
+     */
+    static <T> LazyTry<T> defer(ThrowableOperation<T> operation) {
+        return new LazyTry<>(Objects.requireNonNull(operation));
+    }
+
     /**
      * Returns true if the original operation succeeded, otherwise returns false
      */
@@ -65,7 +307,18 @@ interface Try<T> {
      *
      * @throws RuntimeException that wraps the original exception
      */
-    T getUnchecked();
+    default T getUnchecked() {
+        return getUnchecked(StackTracePolicy.global());
+    }
+
+    /**
+     * Returns the resulting value if this is a Success,
+     * otherwise throws the original exception wrapped in a RuntimeException.
+     * The wrapping exception captures its stack trace according to the given policy
+     *
+     * @throws RuntimeException that wraps the original exception
+     */
+    T getUnchecked(StackTracePolicy policy);
 
     /**
      * Converts this to a non-empty Optional that wraps the resulting value if this is Success,
@@ -109,12 +362,28 @@ interface Try<T> {
      */
     <E extends Throwable> Try<T> onFailure(ThrowableConsumer<Throwable, E> action) throws E;
 
+    /**
+     * Applies the first function to the resulting value if this is a Success,
+     * otherwise applies the second function to the exception, and returns the result
+     */
+    <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Throwable, ? extends R> onFailure);
+
     /**
      * Converts this Success into a Failure (which holds NoSuchElementException)
      * if it is a Success and the predicate doesn't match for the value,
      * otherwise returns this Try (Success or Failure)
      */
-    Try<T> filter(Predicate<T> predicate);
+    default Try<T> filter(Predicate<T> predicate) {
+        return filter(predicate, StackTracePolicy.global());
+    }
+
+    /**
+     * Converts this Success into a Failure (which holds NoSuchElementException)
+     * if it is a Success and the predicate doesn't match for the value,
+     * otherwise returns this Try (Success or Failure).
+     * The NoSuchElementException captures its stack trace according to the given policy
+     */
+    Try<T> filter(Predicate<T> predicate, StackTracePolicy policy);
 
     /**
      * Applies the given function to the resulting value if is a Success, otherwise returns this Failure.
@@ -122,15 +391,64 @@ interface Try<T> {
      */
     <U> Try<U> map(ThrowableFunction<? super T, ? extends U> function);
 
+    /**
+     * The same as {@link Try#map}, but the function is bounded by the given deadline:
+     * it is not executed if the deadline has passed and it is interrupted if the deadline passes while it runs.
+     * In both cases a Failure that holds a TimeoutException is returned
+     */
+    default <U> Try<U> map(ThrowableFunction<? super T, ? extends U> function, Deadline deadline) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(deadline);
+        if (!isSuccess()) {
+            return map(function);
+        }
+        T value = getUnchecked();
+        return deadline.execute(() -> function.apply(value));
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a Success and returns an unboxed IntTry,
+     * otherwise returns an IntTry that holds the same exception
+     */
+    IntTry mapToInt(ThrowableToIntFunction<? super T> function);
+
+    /**
+     * Applies the given function to the resulting value if is a Success and returns an unboxed LongTry,
+     * otherwise returns a LongTry that holds the same exception
+     */
+    LongTry mapToLong(ThrowableToLongFunction<? super T> function);
+
+    /**
+     * Applies the given function to the resulting value if is a Success and returns an unboxed DoubleTry,
+     * otherwise returns a DoubleTry that holds the same exception
+     */
+    DoubleTry mapToDouble(ThrowableToDoubleFunction<? super T> function);
+
     /**
      * Applies the given function to the resulting value if is a Success, otherwise returns this Failure.
      * If that function fails a Failure is returned.
      *
      * This method is similar to {@link Try#map}, but the mapping function already returns a Try.
-     * Being invoked this method doesn't wrap the result of this function within a nested optional
+     * Being invoked this method doesn't wrap the result of this function within a nested optional:
+     * the Try returned by the function is passed through as is, together with its original exception
      */
     <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> function);
 
+    /**
+     * The same as {@link Try#flatMap}, but the function is bounded by the given deadline:
+     * it is not executed if the deadline has passed and it is interrupted if the deadline passes while it runs.
+     * In both cases a Failure that holds a TimeoutException is returned
+     */
+    default <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> function, Deadline deadline) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(deadline);
+        if (!isSuccess()) {
+            return flatMap(function);
+        }
+        T value = getUnchecked();
+        return deadline.execute(() -> function.apply(value)).flatMap(result -> result);
+    }
+
     /**
      * Applies the given function to recover from the throwable if it is a Failure,
      * otherwise returns this Success.
@@ -144,7 +462,8 @@ interface Try<T> {
      * otherwise returns this Success.
      *
      * This method is similar to {@link Try#recover}, but the recovering function already returns a Try.
-     * Being invoked this method doesn't wrap the result of this function within a nested optional
+     * Being invoked this method doesn't wrap the result of this function within a nested optional:
+     * the Try returned by the function is passed through as is, together with its original exception
      *
      * @return a new Try provided by the given function in the case of failure, or the current Success
      */
@@ -152,15 +471,39 @@ interface Try<T> {
 }
 
 /**
- * Represents a successful execution
+ * Represents a successful execution.
+ *
+ * Success and Failure are the only implementations of Try and both are final, so a call site
+ * of any Try method sees at most two receiver classes and the JIT can still inline it
  */
-class Success<T> implements Try<T> {
+final class Success<T> implements Try<T> {
+    private static final Success<?> NULL = new Success<>(null);
+    private static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+    private static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+
     private final T value;
 
-    Success(T value) {
+    private Success(T value) {
         this.value = value;
     }
 
+    /**
+     * Returns a Success that holds the given value. Successes of null and of the Boolean constants are shared
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Success<T> of(T value) {
+        if (value == null) {
+            return (Success<T>) NULL;
+        }
+        if (value == Boolean.TRUE) {
+            return (Success<T>) TRUE;
+        }
+        if (value == Boolean.FALSE) {
+            return (Success<T>) FALSE;
+        }
+        return new Success<>(value);
+    }
+
     @Override
     public boolean isSuccess() {
         return true;
@@ -174,7 +517,7 @@ class Success<T> implements Try<T> {
     }
 
     @Override
-    public T getUnchecked() {
+    public T getUnchecked(StackTracePolicy policy) {
         return value;
         // take it from the previous step
     }
@@ -217,13 +560,22 @@ class Success<T> implements Try<T> {
     }
 
     @Override
-    public Try<T> filter(Predicate<T> predicate) {
+    public <R> R fold(Function<? super T, ? extends R> onSuccess,
+                      Function<? super Throwable, ? extends R> onFailure) {
+        Objects.requireNonNull(onFailure);
+        return onSuccess.apply(value);
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> predicate, StackTracePolicy policy) {
         Objects.requireNonNull(predicate);
 
         if (predicate.test(value)) {
             return this;
-        } else {
+        } else if (policy.captureStackTrace()) {
             return new Failure<T>(new NoSuchElementException());
+        } else {
+            return Failure.noSuchElement();
         }
         // take it from the previous step
     }
@@ -231,14 +583,54 @@ class Success<T> implements Try<T> {
     @Override
     public <U> Try<U> map(ThrowableFunction<? super T, ? extends U> function) {
         Objects.requireNonNull(function);
+        if (TryMetrics.ENABLED) {
+            return TryMetrics.record(TryMetrics.MAP, function, () -> Success.of(function.apply(value)));
+        }
         return Try.of(() -> function.apply(value));
         // write your code here
     }
 
+    @Override
+    public IntTry mapToInt(ThrowableToIntFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        try {
+            return IntTry.success(function.applyAsInt(value));
+        } catch (Throwable t) {
+            return IntTry.failure(t);
+        }
+    }
+
+    @Override
+    public LongTry mapToLong(ThrowableToLongFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        try {
+            return LongTry.success(function.applyAsLong(value));
+        } catch (Throwable t) {
+            return LongTry.failure(t);
+        }
+    }
+
+    @Override
+    public DoubleTry mapToDouble(ThrowableToDoubleFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        try {
+            return DoubleTry.success(function.applyAsDouble(value));
+        } catch (Throwable t) {
+            return DoubleTry.failure(t);
+        }
+    }
+
     @Override
     public <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> function) {
         Objects.requireNonNull(function);
-        return Try.of(() -> function.apply(value).getOrElseThrow(Exception::new));
+        if (TryMetrics.ENABLED) {
+            return TryMetrics.record(TryMetrics.FLAT_MAP, function, () -> Objects.requireNonNull(function.apply(value)));
+        }
+        try {
+            return Objects.requireNonNull(function.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
         // write your code here
     }
 
@@ -265,13 +657,45 @@ class Success<T> implements Try<T> {
 /**
  * Represents a failed execution
  */
-class Failure<T> implements Try<T> {
+final class Failure<T> implements Try<T> {
+    /**
+     * It represents a filtered out value when stack traces are not captured
+     */
+    private static final Failure<?> NO_SUCH_ELEMENT = new Failure<>(StackTracePolicy.NO_SUCH_ELEMENT);
+
     private final Throwable e;
+    /**
+     * The stackless exception thrown by getUnchecked, created at most once per Failure
+     */
+    private RuntimeException stacklessUnchecked;
 
     Failure(Throwable e) {
         this.e = e;
     }
 
+    /**
+     * Returns the original exception
+     */
+    Throwable cause() {
+        return e;
+    }
+
+    /**
+     * Returns a shared Failure that holds a stackless NoSuchElementException
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Failure<T> noSuchElement() {
+        return (Failure<T>) NO_SUCH_ELEMENT;
+    }
+
+    /**
+     * A Failure holds no value of type T, so it can be safely reused as a Failure of any other type
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Try<U> self() {
+        return (Try<U>) this;
+    }
+
     @Override
     public boolean isSuccess() {
         return false;
@@ -285,8 +709,18 @@ class Failure<T> implements Try<T> {
     }
 
     @Override
-    public T getUnchecked() {
-        throw new RuntimeException(e);
+    public T getUnchecked(StackTracePolicy policy) {
+        if (policy.captureStackTrace()) {
+            throw new RuntimeException(e);
+        }
+        if (e == StackTracePolicy.NO_SUCH_ELEMENT) {
+            // this Failure is shared between threads, so its wrapper is a constant instead of a cached one
+            throw StackTracePolicy.NO_SUCH_ELEMENT_UNCHECKED;
+        }
+        if (stacklessUnchecked == null) {
+            stacklessUnchecked = StackTracePolicy.stacklessUnchecked(e);
+        }
+        throw stacklessUnchecked;
         // take it from the previous step
     }
 
@@ -329,7 +763,14 @@ class Failure<T> implements Try<T> {
     }
 
     @Override
-    public Try<T> filter(Predicate<T> predicate) {
+    public <R> R fold(Function<? super T, ? extends R> onSuccess,
+                      Function<? super Throwable, ? extends R> onFailure) {
+        Objects.requireNonNull(onSuccess);
+        return onFailure.apply(e);
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> predicate, StackTracePolicy policy) {
         return this;
         // take it from the previous step
     }
@@ -337,20 +778,41 @@ class Failure<T> implements Try<T> {
     @Override
     public <U> Try<U> map(ThrowableFunction<? super T, ? extends U> function) {
         Objects.requireNonNull(function);
-        return new Failure<U>(e);
+        return self();
         // write your code here
     }
 
+    @Override
+    public IntTry mapToInt(ThrowableToIntFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return IntTry.failure(e);
+    }
+
+    @Override
+    public LongTry mapToLong(ThrowableToLongFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return LongTry.failure(e);
+    }
+
+    @Override
+    public DoubleTry mapToDouble(ThrowableToDoubleFunction<? super T> function) {
+        Objects.requireNonNull(function);
+        return DoubleTry.failure(e);
+    }
+
     @Override
     public <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> function) {
         Objects.requireNonNull(function);
-        return new Failure<U>(e);
+        return self();
         // write your code here
     }
 
     @Override
     public Try<T> recover(ThrowableFunction<? super Throwable, T> function) {
         Objects.requireNonNull(function);
+        if (TryMetrics.ENABLED) {
+            return TryMetrics.record(TryMetrics.RECOVER, function, () -> Success.of(function.apply(e)));
+        }
         return Try.of(() -> function.apply(e));
         // write your code here
     }
@@ -358,7 +820,11 @@ class Failure<T> implements Try<T> {
     @Override
     public Try<T> recoverWith(ThrowableFunction<? super Throwable, Try<T>> function) {
         Objects.requireNonNull(function);
-        return Try.of(() -> function.apply(e).getOrElseThrow(Exception::new));
+        try {
+            return Objects.requireNonNull(function.apply(e));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
         // write your code here
     }
 
@@ -370,6 +836,27 @@ class Failure<T> implements Try<T> {
 
 class Example {
     public static void main(String[] args) {
-        //some implementation
+        Try<Integer> tryParse = Try.of(() -> Integer.parseInt("23")); // Success[23]
+
+        System.out.println(tryParse.isSuccess()); // true
+        System.out.println(tryParse.getUnchecked()); // 23
+        System.out.println(tryParse.toOptional().isEmpty()); // false
+        String description = tryParse.fold(value -> "parsed " + value, e -> "failed with " + e);
+        System.out.println(description); // parsed 23
+
+        Try<Integer> tryParse2 = Try.of(() -> Integer.parseInt("V23")); // Failure[java.lang.NumberFormatException: For input string: "V23"]
+        System.out.println(tryParse2);
+
+        System.out.println(tryParse2.isSuccess()); // false
+        System.out.println(tryParse2.toOptional().isEmpty()); // true
+        System.out.println(tryParse2.getOrElse(0)); // 0
+
+        Try<Object> nothing = Try.of(() -> null); // Success[null]
+        System.out.println(nothing.toOptional().isEmpty()); // true
+
+        int n = 100;
+        Try<Integer> division = Try.of(() -> n / 0); // Failure[java.lang.ArithmeticException: / by zero]
+        System.out.println(division);
+        System.out.println(division.getUnchecked()); // throws a RuntimeException that wraps the initial one
     }
 }
\ No newline at end of file
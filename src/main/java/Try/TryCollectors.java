@@ -0,0 +1,234 @@
+package Try;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collector;
+
+/**
+ * Holds the values of the successes and the exceptions of the failures collected from a stream of Try
+ */
+final class TryPartition<T> {
+    private final List<T> successes;
+    private final List<Throwable> failures;
+
+    TryPartition(List<T> successes, List<Throwable> failures) {
+        this.successes = Collections.unmodifiableList(successes);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    public List<T> successes() {
+        return successes;
+    }
+
+    public List<Throwable> failures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "TryPartition[successes=" + successes + ", failures=" + failures + "]";
+    }
+}
+
+/**
+ * Holds the number of successes and failures collected from a stream of Try
+ * together with the number of failures per exception class
+ */
+final class TrySummary {
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentHashMap<Class<? extends Throwable>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    void accept(Try<?> element) {
+        if (element instanceof Failure) {
+            failures.increment();
+            failuresByType.computeIfAbsent(((Failure<?>) element).cause().getClass(), type -> new LongAdder())
+                    .increment();
+        } else {
+            successes.increment();
+        }
+    }
+
+    TrySummary combine(TrySummary other) {
+        successes.add(other.successes.sum());
+        failures.add(other.failures.sum());
+        other.failuresByType.forEach((type, count) ->
+                failuresByType.computeIfAbsent(type, key -> new LongAdder()).add(count.sum()));
+        return this;
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getCount() {
+        return getSuccessCount() + getFailureCount();
+    }
+
+    /**
+     * Returns a snapshot of the number of failures per exception class
+     */
+    public Map<Class<? extends Throwable>, Long> getFailureCountByType() {
+        Map<Class<? extends Throwable>, Long> snapshot = new HashMap<>();
+        failuresByType.forEach((type, count) -> snapshot.put(type, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "TrySummary[successes=" + getSuccessCount() + ", failures=" + getFailureCount()
+                + ", byType=" + getFailureCountByType() + "]";
+    }
+}
+
+/**
+ * Collectors that split a stream of Try in a single pass without calling get() on each element
+ */
+final class TryCollectors {
+    private TryCollectors() {
+    }
+
+    /**
+     * Returns a collector that keeps the values of successes and the exceptions of failures
+     * in the encounter order
+     */
+    public static <T> Collector<Try<? extends T>, ?, TryPartition<T>> partition() {
+        return Collector.<Try<? extends T>, Lists<T>, TryPartition<T>>of(
+                Lists::new,
+                Lists::accept,
+                Lists::combine,
+                lists -> new TryPartition<>(lists.successes, lists.failures));
+    }
+
+    /**
+     * Returns a concurrent collector that keeps the values of successes and the exceptions of failures
+     * ignoring the encounter order. Parallel streams accumulate into one shared lock-free container
+     */
+    public static <T> Collector<Try<? extends T>, ?, TryPartition<T>> unorderedPartition() {
+        return Collector.<Try<? extends T>, Queues<T>, TryPartition<T>>of(
+                Queues::new,
+                Queues::accept,
+                Queues::combine,
+                Queues::toPartition,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector that keeps only the values of successes in the encounter order
+     */
+    public static <T> Collector<Try<? extends T>, ?, List<T>> successes() {
+        return Collector.<Try<? extends T>, List<T>, List<T>>of(
+                ArrayList::new,
+                (list, element) -> {
+                    if (!(element instanceof Failure)) {
+                        list.add(element.getUnchecked());
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collections::unmodifiableList);
+    }
+
+    /**
+     * Returns a collector that keeps only the exceptions of failures in the encounter order
+     */
+    public static Collector<Try<?>, ?, List<Throwable>> failures() {
+        return Collector.<Try<?>, List<Throwable>, List<Throwable>>of(
+                ArrayList::new,
+                (list, element) -> {
+                    if (element instanceof Failure) {
+                        list.add(((Failure<?>) element).cause());
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collections::unmodifiableList);
+    }
+
+    /**
+     * Returns a concurrent collector that counts successes and failures and failures per exception class
+     */
+    public static Collector<Try<?>, ?, TrySummary> summarizing() {
+        return Collector.of(
+                TrySummary::new,
+                TrySummary::accept,
+                TrySummary::combine,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * The container of the ordered partition
+     */
+    private static final class Lists<T> {
+        private final List<T> successes = new ArrayList<>();
+        private final List<Throwable> failures = new ArrayList<>();
+
+        void accept(Try<? extends T> element) {
+            if (element instanceof Failure) {
+                failures.add(((Failure<?>) element).cause());
+            } else {
+                successes.add(element.getUnchecked());
+            }
+        }
+
+        Lists<T> combine(Lists<T> other) {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+    }
+
+    /**
+     * The container of the unordered partition
+     */
+    private static final class Queues<T> {
+        /**
+         * Stands for null values, since ConcurrentLinkedQueue doesn't accept null
+         */
+        private static final Object NULL = new Object();
+
+        private final Queue<Object> successes = new ConcurrentLinkedQueue<>();
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        void accept(Try<? extends T> element) {
+            if (element instanceof Failure) {
+                failures.add(((Failure<?>) element).cause());
+            } else {
+                T value = element.getUnchecked();
+                successes.add(value == null ? NULL : value);
+            }
+        }
+
+        Queues<T> combine(Queues<T> other) {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        TryPartition<T> toPartition() {
+            List<T> values = new ArrayList<>(successes.size());
+            for (Object value : successes) {
+                values.add(value == NULL ? null : (T) value);
+            }
+            return new TryPartition<>(values, new ArrayList<>(failures));
+        }
+    }
+}
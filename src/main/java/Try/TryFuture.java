@@ -0,0 +1,259 @@
+package Try;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Represents the result of an asynchronous computation that will eventually succeed with a value of the type T
+ * or fail with a Throwable. It mirrors the {@link Try} API.
+ *
+ * It is backed by a CompletableFuture that always completes normally with a Success or Failure,
+ * so exceptions are never wrapped into CompletionException. The composing methods run on the thread
+ * that completes the previous stage.
+ */
+final class TryFuture<T> {
+    private final CompletableFuture<Try<T>> future;
+
+    private TryFuture(CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Executes the given operation with the given executor and returns a TryFuture of its result
+     */
+    public static <T> TryFuture<T> ofAsync(ThrowableOperation<T> operation, Executor executor) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(executor);
+
+        try {
+            return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.of(operation), executor));
+        } catch (Throwable t) {
+            // the executor rejected the task
+            return completed(new Failure<>(t));
+        }
+    }
+
+    /**
+     * Returns an already completed TryFuture
+     */
+    public static <T> TryFuture<T> completed(Try<T> result) {
+        return new TryFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * Adapts a CompletableFuture, unwrapping CompletionException and ExecutionException it may complete with
+     */
+    public static <T> TryFuture<T> fromCompletableFuture(CompletableFuture<? extends T> source) {
+        Objects.requireNonNull(source);
+        return new TryFuture<>(source.handle((value, throwable) -> throwable == null
+                ? Success.of(value)
+                : new Failure<>(unwrap(throwable))));
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread for each task when running on a JDK that supports them,
+     * otherwise a shared cached pool of daemon platform threads
+     */
+    public static Executor virtualThreadExecutor() {
+        return VirtualThreads.EXECUTOR;
+    }
+
+    /**
+     * Returns true if {@link #virtualThreadExecutor()} uses virtual threads
+     */
+    public static boolean isVirtualThreadExecutorAvailable() {
+        return VirtualThreads.VIRTUAL;
+    }
+
+    /**
+     * Returns the common ForkJoinPool, which suits CPU-bound operations
+     */
+    public static Executor forkJoinExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Returns true if the computation has completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the computation to complete and returns its result
+     */
+    public Try<T> await() {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } catch (ExecutionException | CancellationException e) {
+            return new Failure<>(unwrap(e));
+        }
+    }
+
+    /**
+     * Waits at most the given time for the computation to complete and returns its result,
+     * or a Failure that holds a TimeoutException
+     */
+    public Try<T> await(long timeout, TimeUnit unit) {
+        try {
+            return future.get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } catch (ExecutionException | CancellationException | TimeoutException e) {
+            return new Failure<>(unwrap(e));
+        }
+    }
+
+    /**
+     * Returns a CompletableFuture that always completes normally with a Success or Failure
+     */
+    public CompletableFuture<Try<T>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a Success, otherwise keeps this Failure.
+     * If that function fails a Failure is returned
+     */
+    public <U> TryFuture<U> map(ThrowableFunction<? super T, ? extends U> function) {
+        Objects.requireNonNull(function);
+        return then(result -> result.map(function));
+    }
+
+    /**
+     * Applies the given function to the resulting value if is a Success, otherwise keeps this Failure.
+     * The TryFuture returned by the function is passed through as is
+     */
+    public <U> TryFuture<U> flatMap(ThrowableFunction<? super T, TryFuture<U>> function) {
+        Objects.requireNonNull(function);
+        return new TryFuture<>(future.thenCompose(result -> {
+            if (result instanceof Failure) {
+                return CompletableFuture.completedFuture(failure(result));
+            }
+            try {
+                return function.apply(result.getUnchecked()).future;
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(new Failure<>(t));
+            }
+        }));
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if it is a Failure, otherwise keeps this Success
+     */
+    public TryFuture<T> recover(ThrowableFunction<? super Throwable, T> function) {
+        Objects.requireNonNull(function);
+        return then(result -> result.recover(function));
+    }
+
+    /**
+     * Applies the given function to recover from the throwable if it is a Failure, otherwise keeps this Success.
+     * The TryFuture returned by the function is passed through as is
+     */
+    public TryFuture<T> recoverWith(ThrowableFunction<? super Throwable, TryFuture<T>> function) {
+        Objects.requireNonNull(function);
+        return new TryFuture<>(future.thenCompose(result -> {
+            if (!(result instanceof Failure)) {
+                return CompletableFuture.completedFuture(result);
+            }
+            try {
+                return function.apply(((Failure<T>) result).cause()).future;
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(new Failure<>(t));
+            }
+        }));
+    }
+
+    /**
+     * Applies the given action to the resulting value if it is a Success.
+     * If the action fails the returned TryFuture holds a Failure with its exception
+     */
+    public <E extends Throwable> TryFuture<T> onSuccess(ThrowableConsumer<T, E> action) {
+        Objects.requireNonNull(action);
+        return then(result -> result.onSuccess(action));
+    }
+
+    /**
+     * Applies the given action to the exception if it is a Failure.
+     * If the action fails the returned TryFuture holds a Failure with its exception
+     */
+    public <E extends Throwable> TryFuture<T> onFailure(ThrowableConsumer<Throwable, E> action) {
+        Objects.requireNonNull(action);
+        return then(result -> result.onFailure(action));
+    }
+
+    /**
+     * Transforms the result when it is ready. Anything thrown by the transformation becomes a Failure,
+     * so the underlying future never completes exceptionally
+     */
+    private <U> TryFuture<U> then(ThrowableFunction<Try<T>, Try<U>> transformation) {
+        return new TryFuture<>(future.thenApply(result -> {
+            try {
+                return transformation.apply(result);
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Try<U> failure(Try<?> failure) {
+        return (Try<U>) failure;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() ? "TryFuture[" + future.join() + "]" : "TryFuture[pending]";
+    }
+
+    /**
+     * Lazily creates the virtual thread executor. The project targets Java 11, so the JDK 21 factory method
+     * is looked up reflectively
+     */
+    private static final class VirtualThreads {
+        static final Executor EXECUTOR;
+        static final boolean VIRTUAL;
+
+        static {
+            ExecutorService executor;
+            boolean virtual;
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                executor = (ExecutorService) factory.invoke(null);
+                virtual = true;
+            } catch (ReflectiveOperationException e) {
+                executor = Executors.newCachedThreadPool(task -> {
+                    Thread thread = new Thread(task, "try-future-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                virtual = false;
+            }
+            EXECUTOR = executor;
+            VIRTUAL = virtual;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package Try;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Opt-in instrumentation of Try.of, map, flatMap and recover.
+ *
+ * It is enabled with the "try.metrics" system property and is read once, so when it is off the only cost
+ * is a check of a static final field that the JIT folds away. When it is on, every step records its outcome,
+ * the exception class and the latency into the counters of its site and emits a "functional.Try" JFR event
+ * if such events are enabled in a recording.
+ *
+ * A site is either the name given to {@link Try#of(String, ThrowableOperation)} or the operator together
+ * with the class of the lambda passed to it, which is unique per lambda expression in the source code.
+ */
+final class TryMetrics {
+    /**
+     * True if the instrumentation is enabled
+     */
+    static final boolean ENABLED = Boolean.getBoolean("try.metrics");
+
+    static final int OF = 0;
+    static final int MAP = 1;
+    static final int FLAT_MAP = 2;
+    static final int RECOVER = 3;
+
+    private static final String[] OPERATORS = {"of", "map", "flatMap", "recover"};
+
+    private static final ConcurrentHashMap<String, Site> SITES = new ConcurrentHashMap<>();
+    /**
+     * Sites per lambda class, one ClassValue per operator
+     */
+    private static final List<ClassValue<Site>> SITES_BY_LAMBDA = sitesByLambda();
+
+    private TryMetrics() {
+    }
+
+    /**
+     * Executes the given step of the given operator on behalf of the given lambda and records its outcome
+     */
+    static <T> Try<T> record(int operator, Object lambda, ThrowableOperation<Try<T>> step) {
+        return record(SITES_BY_LAMBDA.get(operator).get(lambda.getClass()), step);
+    }
+
+    /**
+     * Executes the given step on behalf of the site with the given name and records its outcome
+     */
+    static <T> Try<T> record(String site, ThrowableOperation<Try<T>> step) {
+        return record(site(site), step);
+    }
+
+    /**
+     * Returns the current state of all the sites sorted by name
+     */
+    public static List<SiteSnapshot> snapshot() {
+        List<SiteSnapshot> snapshots = new ArrayList<>();
+        for (Site site : SITES.values()) {
+            snapshots.add(site.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(SiteSnapshot::getName));
+        return snapshots;
+    }
+
+    private static List<ClassValue<Site>> sitesByLambda() {
+        List<ClassValue<Site>> sites = new ArrayList<>();
+        for (String operator : OPERATORS) {
+            sites.add(new ClassValue<Site>() {
+                @Override
+                protected Site computeValue(Class<?> type) {
+                    return site(operator + ":" + siteName(type));
+                }
+            });
+        }
+        return Collections.unmodifiableList(sites);
+    }
+
+    /**
+     * Returns the name of a lambda class without the suffix that the JVM adds to hidden classes
+     */
+    private static String siteName(Class<?> type) {
+        String name = type.getName();
+        int suffix = name.indexOf('/');
+        return suffix < 0 ? name : name.substring(0, suffix);
+    }
+
+    private static Site site(String name) {
+        return SITES.computeIfAbsent(name, Site::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Try<T> record(Site site, ThrowableOperation<Try<T>> step) {
+        TryEvent event = new TryEvent();
+        event.begin();
+        long start = System.nanoTime();
+
+        Try<T> result;
+        try {
+            result = step.execute();
+        } catch (Throwable t) {
+            result = new Failure<>(t);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Throwable failure = result instanceof Failure ? ((Failure<T>) result).cause() : null;
+        site.record(failure, elapsed);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.site = site.name;
+            event.success = failure == null;
+            event.exceptionClass = failure == null ? null : failure.getClass().getName();
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * The counters of a single site
+     */
+    private static final class Site {
+        private final String name;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentHashMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        Site(String name) {
+            this.name = name;
+        }
+
+        void record(Throwable failure, long nanos) {
+            if (failure == null) {
+                successes.increment();
+            } else {
+                failures.increment();
+                failuresByType.computeIfAbsent(failure.getClass(), type -> new LongAdder()).increment();
+            }
+            latencies.record(nanos);
+        }
+
+        SiteSnapshot snapshot() {
+            Map<String, Long> byType = new HashMap<>();
+            failuresByType.forEach((type, count) -> byType.put(type.getName(), count.sum()));
+            return new SiteSnapshot(name, successes.sum(), failures.sum(), byType,
+                    latencies.percentile(0.5), latencies.percentile(0.99), latencies.percentile(1.0));
+        }
+    }
+
+    /**
+     * The JFR event emitted for every instrumented step
+     */
+    @Name("functional.Try")
+    @Label("Try Step")
+    @Category("Try")
+    private static final class TryEvent extends Event {
+        @Label("Site")
+        String site;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Exception Class")
+        String exceptionClass;
+    }
+}